@@ -2,6 +2,7 @@ package credits;
 
 import gamestate.GameState;
 import main.Game;
+import render.RetainedScreen;
 import text.InteractiveText;
 import text.RegularText;
 import utility.Atlas;
@@ -45,6 +46,8 @@ public class Credits {
 
     /**The interactive back text of the credits.*/
     private final InteractiveText backButton;
+    /**The retained content of the credits, drawn again only where it changed.*/
+    private final RetainedScreen screen;
 
     /**
      * Game | Initializes the credits component of the game.
@@ -80,6 +83,8 @@ public class Credits {
 
         // Interactive Text serving as Back Button in Credits
         backButton = new InteractiveText(740, "Back", 100, 200, Atlas.MINIMAL_PIXEL_FONT);
+
+        screen = new RetainedScreen(game.getScreenWidth(), game.getScreenHeight(), this::drawCredits);
     }
 
     /**
@@ -87,6 +92,15 @@ public class Credits {
      * @param graphics The graphics object that draws images on the game screen.
      */
     public void renderCredits(Graphics graphics) {
+        screen.updateText(backButton);
+        screen.render(graphics);
+    }
+
+    /**
+     * drawCredits draws the components of the credits into its retained content.
+     * @param graphics The graphics object that draws images on the retained content of the credits.
+     */
+    private void drawCredits(Graphics2D graphics) {
         fontsHeaderText.renderText(graphics, game.getScreenWidth());
         fontsTarrgetFontCreditText.renderText(graphics, game.getScreenWidth());
         fontsRobusFontCreditText.renderText(graphics, game.getScreenWidth());
@@ -104,7 +118,22 @@ public class Credits {
         developerHeaderText.renderText(graphics, game.getScreenWidth());
         developerCreditText.renderText(graphics, game.getScreenWidth());
 
-        backButton.renderText(graphics, game.getScreenWidth());
+        backButton.drawText(graphics, game.getScreenWidth());
+    }
+
+    /**
+     * invalidate makes the credits be drawn again in full on the next frame.
+     */
+    public void invalidate() {
+        screen.invalidate();
+    }
+
+    /**
+     * isAnimating determines if the credits change from frame to frame, as the active back text blinks.
+     * @return Returns true if the back text is active.
+     */
+    public boolean isAnimating() {
+        return backButton.isActive();
     }
 
     /**
@@ -1,9 +1,7 @@
 package entity;
 
 import level.Level;
-import tile.TileManager;
 
-import java.awt.geom.Ellipse2D;
 import java.awt.geom.Point2D;
 
 import static utility.PlayUtils.getEntityCenterHitBox;
@@ -14,7 +12,7 @@ import static utility.PlayUtils.getEntityCenterHitBox;
  */
 public abstract class AirEnemy extends Enemy{
 
-    protected Point2D.Float targetPoint;
+    protected final Point2D.Float targetPoint;
     private double direction;
 
     /**
@@ -35,22 +33,22 @@ public abstract class AirEnemy extends Enemy{
     }
 
     @Override public void active() {
-        attentionArea = new Ellipse2D.Float(0, 0, 2*attentionAreaDiameterFactor*bitWidth*entityScale+15, 2*attentionAreaDiameterFactor*bitHeight*entityScale+15);
+        setAttentionAreaSize(2*attentionAreaDiameterFactor);
         updateAttentionArea();
     }
 
     @Override public void passive() {
-        attentionArea = new Ellipse2D.Float(0, 0, attentionAreaDiameterFactor*bitWidth*entityScale+15, attentionAreaDiameterFactor*bitHeight*entityScale+15);
+        setAttentionAreaSize(attentionAreaDiameterFactor);
         updateAttentionArea();
-        targetPoint = getEntityCenterHitBox(this);
+        getEntityCenterHitBox(this, targetPoint);
     }
 
     @Override
     public void updateActivity(Level level, Player player) {
-        isActive = attentionArea.intersects(player.getHitBox());
+        isActive = isInAttentionArea(player.getHitBox());
         if (isActive) {
-            targetPoint = getEntityCenterHitBox(player);
-            facingRight = targetPoint.x > getEntityCenterHitBox(this).x;
+            getEntityCenterHitBox(player, targetPoint);
+            facingRight = targetPoint.x > getEntityCenterHitBox(this, centerHitBox).x;
             active();
         } else {
             passive();
@@ -58,7 +56,7 @@ public abstract class AirEnemy extends Enemy{
     }
 
     @Override
-    protected void updateMovement(Level level, TileManager tileManager) {
+    protected void updateMovement(Level level) {
         if (!isActive) return;
         updateDirection();
         entityCoordinate.x += movementSpeed*Math.cos(direction);
@@ -66,7 +64,7 @@ public abstract class AirEnemy extends Enemy{
     }
 
     private void updateDirection() {
-        Point2D.Float centerHitBoxCoordinate = getEntityCenterHitBox(this);
+        Point2D.Float centerHitBoxCoordinate = getEntityCenterHitBox(this, centerHitBox);
         double deltaX = targetPoint.x - centerHitBoxCoordinate.x;
         double deltaY = targetPoint.y - centerHitBoxCoordinate.y;
         direction = Math.atan2(deltaY, deltaX);
@@ -1,10 +1,11 @@
 package entity;
 
 import level.Level;
-import tile.TileManager;
 
 import java.awt.*;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
 
 import static utility.PlayUtils.getEntityCenterHitBox;
 
@@ -19,7 +20,13 @@ public abstract class Enemy extends Entity{
     /**The scaling factor determining the diameter of attentionArea.*/
     protected float attentionAreaDiameterFactor;
     /**The domain area of the enemy that determines the activity status of the enemy as the player's hitBox intersects with the attentionArea.*/
-    protected Ellipse2D.Float attentionArea;
+    protected final Ellipse2D.Float attentionArea = new Ellipse2D.Float();
+    /**The center of the hit box of the enemy, reused across updates.*/
+    protected final Point2D.Float centerHitBox = new Point2D.Float();
+    /**The center of the hit box of the player, reused across updates.*/
+    protected final Point2D.Float playerCenterHitBox = new Point2D.Float();
+    /**The condition determining if the enemy is dormant, held in place as it is outside the activity zone of the level.*/
+    protected boolean isDormant;
 
     /**
      * Enemy is the superclass of all moving and interactive enemy entities
@@ -36,7 +43,7 @@ public abstract class Enemy extends Entity{
     public Enemy(int xPosition, int yPosition, int bitWidth, int bitHeight, float attentionAreaDiameterFactor, float entityScale, int damageValue, int maxNumberOfHearts) {
         super(xPosition, yPosition, bitWidth, bitHeight, entityScale, damageValue, maxNumberOfHearts);
         this.attentionAreaDiameterFactor = attentionAreaDiameterFactor;
-        attentionArea = new Ellipse2D.Float(0, 0, attentionAreaDiameterFactor*bitWidth*entityScale+15, attentionAreaDiameterFactor*bitHeight*entityScale+15);
+        setAttentionAreaSize(attentionAreaDiameterFactor);
     }
 
     /**
@@ -54,20 +61,47 @@ public abstract class Enemy extends Entity{
      * @param level The current level of the game.
      */
     protected void updateActivity(Level level, Player player) {
-        isActive = attentionArea.intersects(player.getHitBox());
+        isActive = isInAttentionArea(player.getHitBox());
         if (isActive) {
-            facingRight = getEntityCenterHitBox(player).x > getEntityCenterHitBox(this).x;
+            facingRight = getEntityCenterHitBox(player, playerCenterHitBox).x > getEntityCenterHitBox(this, centerHitBox).x;
             active();
         } else {
             passive();
         }
     }
 
+    /**
+     * isInAttentionArea determines if a hit box intersects the attentionArea of the enemy. The point of the
+     * hit box closest to the center of the attentionArea is found, with its distance from the center measured
+     * in diameters of the attentionArea, and its squared distance is tested against the ellipse equation.
+     * @param hitBox The hit box tested against the attentionArea.
+     * @return Returns true if the hit box intersects the attentionArea, touching its edge excluded.
+     */
+    protected boolean isInAttentionArea(Rectangle2D.Float hitBox) {
+        double width = attentionArea.width;
+        double height = attentionArea.height;
+        if (hitBox.width <= 0 || hitBox.height <= 0 || width <= 0 || height <= 0) return false;
+        double left = ((double) hitBox.x - attentionArea.x) / width - 0.5;
+        double top = ((double) hitBox.y - attentionArea.y) / height - 0.5;
+        double nearX = left > 0 ? left : Math.min(0, left + hitBox.width / width);
+        double nearY = top > 0 ? top : Math.min(0, top + hitBox.height / height);
+        return nearX*nearX + nearY*nearY < 0.25;
+    }
+
+    /**
+     * setAttentionAreaSize resizes the attentionArea of the enemy, keeping its x,y-coordinate.
+     * @param diameterFactor The scaling factor for the diameter of the attentionArea.
+     */
+    protected void setAttentionAreaSize(float diameterFactor) {
+        attentionArea.width = diameterFactor*bitWidth*entityScale+15;
+        attentionArea.height = diameterFactor*bitHeight*entityScale+15;
+    }
+
     /**
      * updateAttentionArea updates the x,y-coordinate of the attentionArea of the enemy.
      */
     protected void updateAttentionArea() {
-        Point.Float centerHitBox = getEntityCenterHitBox(this);
+        getEntityCenterHitBox(this, centerHitBox);
         attentionArea.x = (int) (centerHitBox.x-(attentionArea.width)/2);
         attentionArea.y = (int) (centerHitBox.y-(attentionArea.height)/2);
     }
@@ -75,20 +109,55 @@ public abstract class Enemy extends Entity{
     /**
      * updateEnemy updates the enemy-specific state and behavior of the entity.
      * @param level The current level of the game.
-     * @param tileManager The TileManager containing data about the tiles of the game/level.
      * @param player The player of the game.
      */
-    public void updateEnemy(Level level, TileManager tileManager, Player player) {
-        updateEntity(level, tileManager);
+    public void updateEnemy(Level level, Player player) {
+        updateEntity(level);
         updateActivity(level, player);
     }
 
+    /**
+     * updateDormancy determines if the enemy is dormant, as its sprite lies outside the activity zone of the level.
+     * An active enemy stays awake outside the activity zone until it goes passive, so it does not freeze while chasing the player.
+     * @param activityZone The region of the level around the game screen in which enemies are updated.
+     */
+    public void updateDormancy(Rectangle2D.Float activityZone) {
+        isDormant = !isActive && !activityZone.intersects(entityCoordinate.x, entityCoordinate.y, bitWidth*entityScale, bitHeight*entityScale);
+    }
+
+    /**
+     * getReach determines how far the enemy reaches from its sprite, as the larger of the size of its sprite
+     * and the radius of its passive attentionArea. A dormant enemy further than its reach from the game screen
+     * can neither be seen nor notice the player.
+     * @return Returns the reach of the enemy in pixels.
+     */
+    public int getReach() {
+        float spriteSize = Math.max(bitWidth, bitHeight)*entityScale;
+        float attentionRadius = (attentionAreaDiameterFactor*Math.max(bitWidth, bitHeight)*entityScale+15)/2;
+        return (int) Math.ceil(Math.max(spriteSize, attentionRadius));
+    }
+
+    /**
+     * updateDormant updates the enemy while it is dormant. The enemy neither moves, animates nor
+     * watches the player, but damage it received still resolves, so it can die outside the activity zone.
+     */
+    public void updateDormant() {
+        previousEntityCoordinate.setLocation(entityCoordinate);
+        updateVulnerability();
+    }
+
     @Override
-    public void updateEntity(Level level, TileManager tileManager) {
-        super.updateEntity(level, tileManager);
+    public void updateEntity(Level level) {
+        super.updateEntity(level);
         updateAttentionArea();
     }
 
+    /**
+     * isDormant determines if the enemy is dormant outside the activity zone of the level.
+     * @return Returns a boolean value determining if the enemy is dormant.
+     */
+    public boolean isDormant() {return isDormant;}
+
     /**
      * renderAttentionArea renders the attentionArea of the enemy on the game screen.
      * @param graphics The graphics object that draws images on the game screen.
@@ -96,10 +165,10 @@ public abstract class Enemy extends Entity{
      * @param yOffset The y-value offset of the entity on the game screen.
      */
     public void renderAttentionArea(Graphics2D graphics, double xOffset, double yOffset) {
-        Ellipse2D.Float renderArea = attentionArea;
-        renderArea.x -= xOffset;
-        renderArea.y -= yOffset;
+        // Draws through a translation, as the attentionArea is read by the behavior of the enemy and must not move.
+        graphics.translate(-xOffset, -yOffset);
         graphics.setColor(Color.MAGENTA);
-        graphics.draw(renderArea);
+        graphics.draw(attentionArea);
+        graphics.translate(xOffset, yOffset);
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package entity;
 
 import level.Level;
-import tile.TileManager;
+import level.SpatialHash;
+import render.FrameSnapshot;
 
 import java.awt.*;
+import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,8 +16,22 @@ import java.util.Map;
  */
 public class EnemyManager {
 
+    /**The size of a cell of the enemy hash in tiles.*/
+    private static final int HASH_CELL_TILES = 4;
+    /**
+     * The distance in tiles the activity zone reaches past each edge of the game screen, set by the
+     * robotoscape.activityMargin property. Enemies outside the activity zone are dormant. The margin is raised
+     * to the reach of the enemies of the level, so no enemy is held dormant while it can be seen or see the player.
+     */
+    private static final int ACTIVITY_MARGIN_TILES = Math.max(0, Integer.getInteger("robotoscape.activityMargin", 8));
     /**Contains the enemies found in the level of a game.*/
     private final ArrayList<Enemy> enemyList = new ArrayList<>();
+    /**The hit boxes of the enemies at the end of the current update, registered by their index in enemyList.*/
+    private final SpatialHash enemyHash;
+    /**The distance in pixels the activity zone reaches past each edge of the game screen.*/
+    private int activityMargin;
+    /**The region of the level around the game screen in which enemies are updated.*/
+    private final Rectangle2D.Float activityZone = new Rectangle2D.Float();
 
     /**
      * EnemyManager | Initializes the EnemyManager managing the enemies
@@ -23,7 +39,13 @@ public class EnemyManager {
      * @param level The current level of the game.
      */
     public EnemyManager(Level level) {
+        Dimension levelDimension = level.getLevelDimension();
+        activityMargin = ACTIVITY_MARGIN_TILES*level.getTileSize();
+        enemyHash = new SpatialHash(levelDimension.width, levelDimension.height, level.getTileSize()*HASH_CELL_TILES);
         setupEnemies(level.getEnemyCoordinates());
+        for (Enemy enemy : enemyList) {
+            activityMargin = Math.max(activityMargin, enemy.getReach());
+        }
     }
 
     /**
@@ -48,34 +70,64 @@ public class EnemyManager {
     }
 
     /**
-     * renderEnemies renders the enemies found in the game.
-     * @param graphics The graphics object that draws images on the game screen.
-     * @param xOffset The x-value offset of the entity on the game screen.
-     * @param yOffset The y-value offset of the entity on the game screen.
+     * captureEnemies stores the drawable state of the enemies found in the game.
+     * @param snapshot The frame snapshot to be filled with the state of the enemies.
      */
-    public void renderEnemies(Graphics2D graphics, double xOffset, double yOffset) {
+    public void captureEnemies(FrameSnapshot snapshot) {
         for (Enemy enemy: enemyList) {
-            enemy.renderEntity(graphics, xOffset, yOffset);
-//            enemy.renderAttentionArea(graphics, xOffset, yOffset);
+            // Dormant enemies lie outside the game screen, so they are not drawn.
+            if (!enemy.isDormant()) enemy.captureSnapshot(snapshot.addEnemy());
         }
     }
 
+    /**
+     * updateActivityZone places the activity zone around the game screen, so the enemies near
+     * the game screen are updated and the enemies far from it are dormant.
+     * @param xOffset       The x-value offset of the game screen in the level.
+     * @param yOffset       The y-value offset of the game screen in the level.
+     * @param screenWidth   The width of the game screen in pixels.
+     * @param screenHeight  The height of the game screen in pixels.
+     */
+    public void updateActivityZone(double xOffset, double yOffset, int screenWidth, int screenHeight) {
+        activityZone.setRect(xOffset - activityMargin, yOffset - activityMargin, screenWidth + 2*activityMargin, screenHeight + 2*activityMargin);
+    }
+
     /**
      * updateEnemies updates the state and behavior of the enemies on the current level of the game.
      * @param level The current level of the game.
-     * @param tileManager The TileManager containing data about the tiles of the game/level.
      * @param player The player of the game.
      */
-    public void updateEnemies(Level level, TileManager tileManager, Player player) {
+    public void updateEnemies(Level level, Player player) {
         enemyList.removeIf(Entity::isDead);
-        for (Enemy enemy: enemyList) {
-            enemy.updateEnemy(level, tileManager, player);
-            if(enemy.getHitBox().intersects(player.getHitBox()) && !player.isInvulnerable()) {
-                player.initiateDamage(enemy.getDamageValue());
+        enemyHash.clear();
+        for (int i = 0; i < enemyList.size(); i++) {
+            Enemy enemy = enemyList.get(i);
+            enemy.updateDormancy(activityZone);
+            if (enemy.isDormant()) {
+                enemy.updateDormant();
+            } else {
+                enemy.updateEnemy(level, player);
             }
+            enemyHash.insert(i, enemy.getHitBox());
+        }
+        // Only the first enemy touching the player deals damage, as the damage makes the player invulnerable.
+        if (!player.isInvulnerable()) {
+            Enemy enemy = getFirstEnemyHit(player.getHitBox());
+            if (enemy != null) player.initiateDamage(enemy.getDamageValue());
         }
     }
 
+    /**
+     * getFirstEnemyHit finds the first enemy in enemyList whose hit box intersects a given hit box,
+     * testing only the enemies near it.
+     * @param hitBox The hit box tested against the enemies at the end of the current update.
+     * @return Returns the first enemy hit, or null if no enemy is hit.
+     */
+    public Enemy getFirstEnemyHit(Rectangle2D.Float hitBox) {
+        int index = enemyHash.findFirstOverlap(hitBox);
+        return index < 0 ? null : enemyList.get(index);
+    }
+
     /**
      * getEnemyList fetches the enemyList of an enemyManager instance.
      * @return Returns an ArrayList<Enemy> containing all the enemies present in the game.
@@ -1,8 +1,9 @@
 package entity;
 
 import hearts.Hearts;
-import tile.TileManager;
 import level.Level;
+import level.MovementResolver;
+import render.SpriteSnapshot;
 
 import java.awt.*;
 import java.awt.geom.Point2D;
@@ -20,6 +21,8 @@ public abstract class Entity {
     protected Hearts hearts;
     /** The x,y-coordinate position of the entity.*/
     protected Point2D.Float entityCoordinate;
+    /** The x,y-coordinate position of the entity at the end of the previous update.*/
+    protected Point2D.Float previousEntityCoordinate;
     /** The width of the entity in pixels.*/
     protected int bitWidth;
     /** The height of the entity in pixels.*/
@@ -71,6 +74,11 @@ public abstract class Entity {
      * the actual y-coordinate position of an entity's hit box.
      */
     protected int yHitBoxDelta;
+    /**
+     * Moves the hit box of the entity through the solid tiles of the level,
+     * keeping the displacement and contact normals of its last move.
+     */
+    protected final MovementResolver movementResolver = new MovementResolver();
 
     /**
      * Entity is the superclass of all moving and interactive entities
@@ -84,6 +92,7 @@ public abstract class Entity {
      */
     public Entity(int xPosition, int yPosition, int bitWidth, int bitHeight, float entityScale, int damageValue, int maxNumberOfHearts) {
         this.entityCoordinate = new Point2D.Float(xPosition, yPosition);
+        this.previousEntityCoordinate = new Point2D.Float(xPosition, yPosition);
         this.bitWidth = bitWidth;
         this.bitHeight = bitHeight;
         this.entityScale = entityScale;
@@ -93,31 +102,20 @@ public abstract class Entity {
     }
 
     /**
-     * renderEntity | Displays the entity on the game screen.
-     * @param graphics  The graphics object that draws images on the game screen.
-     * @param xOffset   The x-value offset of the entity on the game screen.
-     * @param yOffset   The y-value offset of the entity on the game screen.
+     * captureSnapshot | Stores the drawable state of the entity at the end of the current update.
+     * @param snapshot The sprite snapshot to be filled with the state of the entity.
      */
-    public void renderEntity(Graphics2D graphics, double xOffset, double yOffset) {
-        BufferedImage playerImage = animations.get(animationState)[(int) Math.floor(animationCounter)];
-        int width = (int) (bitWidth*entityScale);
-        int height = (int) (bitHeight*entityScale);
-        // Adds composite IF vulnerable.
+    public void captureSnapshot(SpriteSnapshot snapshot) {
+        BufferedImage[] animationImages = animations.get(animationState);
+        BufferedImage entityImage = animationImages[Math.min((int) Math.floor(animationCounter), animationImages.length-1)];
+        // Adds transparency IF invulnerable.
+        float opacity = 1.0f;
         if (isInvulnerable) {
-            float alphaValue = ((int) invulnerabilityCounter % 2 == 0) ? 0.5f : 0.1f;
-            AlphaComposite alphaComposite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alphaValue);
-            graphics.setComposite(alphaComposite);
-        } else {
-            AlphaComposite alphaComposite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f);
-            graphics.setComposite(alphaComposite);
+            opacity = ((int) invulnerabilityCounter % 2 == 0) ? 0.5f : 0.1f;
         }
-        if (!facingRight) {
-            graphics.drawImage(playerImage, (int) (entityCoordinate.x +width-xOffset), (int) (entityCoordinate.y -yOffset), -width, height, null);
-        } else {
-            graphics.drawImage(playerImage, (int) (entityCoordinate.x -xOffset), (int) (entityCoordinate.y -yOffset), width, height, null);
-        }
-//        renderHitBox(graphics, xOffset, yOffset);
-        hearts.displayHearts(graphics, this, xOffset, yOffset);
+        snapshot.set(entityImage, previousEntityCoordinate.x, previousEntityCoordinate.y, entityCoordinate.x, entityCoordinate.y,
+                (int) (bitWidth*entityScale), (int) (bitHeight*entityScale), facingRight, opacity);
+        snapshot.setHearts(hearts.getCurrentNumberOfHearts(), hitBox.x + (hitBox.width*entityScale)/2, entityCoordinate.y);
     }
 
     /**
@@ -132,15 +130,27 @@ public abstract class Entity {
     /**
      * updateEntity | Updates the current state of the entity.
      * @param level         The current level of the game.
-     * @param tileManager   The TileManager containing data about the tiles of the game/level.
      */
-    public void updateEntity(Level level, TileManager tileManager) {
+    public void updateEntity(Level level) {
+        previousEntityCoordinate.setLocation(entityCoordinate);
         updateHitBox();
-        updateMovement(level, tileManager);
+        updateMovement(level);
         updateAnimation();
         updateVulnerability();
     }
 
+    /**
+     * resolveMovement sweeps the hit box of the entity by the given displacement through the solid tiles of the level.
+     * The allowed displacement and the normals of the tiles the hit box stopped against are kept by the movement resolver.
+     * @param level The current level of the game.
+     * @param dx    The x-value displacement of the entity.
+     * @param dy    The y-value displacement of the entity.
+     */
+    protected void resolveMovement(Level level, float dx, float dy) {
+        movementResolver.resolve(level.getCollisionGrid(), entityCoordinate.x + xHitBoxDelta, entityCoordinate.y + yHitBoxDelta,
+                hitBox.width*entityScale, hitBox.height*entityScale, dx, dy);
+    }
+
     /**
      * updateHitBox updates the hit box of the entity.
      */
@@ -149,9 +159,8 @@ public abstract class Entity {
     /**
      * updateMovement | Updates the movement of the entity.
      * @param level         The current level of the game.
-     * @param tileManager   The TileManager containing data about the tiles of the game/level.
      */
-    abstract protected void updateMovement(Level level, TileManager tileManager);
+    abstract protected void updateMovement(Level level);
 
     /**
      * updateAnimation updates the current animation state of the entity.
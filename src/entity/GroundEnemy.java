@@ -1,7 +1,6 @@
 package entity;
 
 import level.Level;
-import tile.TileManager;
 
 import static utility.PlayUtils.*;
 
@@ -28,26 +27,19 @@ public abstract class GroundEnemy extends Enemy {
     }
 
     @Override
-    protected void updateMovement(Level level, TileManager tileManager) {
+    protected void updateMovement(Level level) {
         float xSpeed = facingRight ? movementSpeed : -movementSpeed;
-        /*
-         * The entity cannot move left/right based on its movement speed.
-         * Checks if there is still some space between the entities left and right space.
-         * Changes face direction of the entity if it does.
-         */
-        if (!canEntityMove(entityCoordinate.x + xSpeed, entityCoordinate.y, this, level, tileManager)) {
-            xSpeed = getEntityXOffset(entityCoordinate.x + xHitBoxDelta, !facingRight);
+        // The entity moves up to any wall in its way, and turns around once it reaches the wall.
+        resolveMovement(level, xSpeed, 0);
+        if (movementResolver.getNormalX() != 0) {
             facingRight = !facingRight;
         }
 
-        if (isEntityOnEdge(entityCoordinate.x, entityCoordinate.y, !facingRight, this, level, tileManager)){
+        if (isEntityOnEdge(entityCoordinate.x, entityCoordinate.y, !facingRight, this, level)){
             facingRight = !facingRight;
             return;
         }
 
-        // If the entity can move at that direction, add the xSpeed to its x-coordinate position
-        if(canEntityMove(entityCoordinate.x + xSpeed, entityCoordinate.y, this, level, tileManager)) {
-            entityCoordinate.x += xSpeed;
-        }
+        entityCoordinate.x += movementResolver.getDeltaX();
     }
 }
\ No newline at end of file
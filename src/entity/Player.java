@@ -1,7 +1,6 @@
 package entity;
 
 import level.Level;
-import tile.TileManager;
 import utility.Atlas;
 
 import java.awt.geom.Point2D;
@@ -66,11 +65,11 @@ public class Player extends Entity {
     }
 
     @Override
-    public void updateEntity(Level level, TileManager tileManager) {
-        super.updateEntity(level, tileManager);
+    public void updateEntity(Level level) {
+        super.updateEntity(level);
         updateGunState();
         // For damage when player is on a spike.
-        if (isEntityOnDamageTile(entityCoordinate.x, entityCoordinate.y, this, level, tileManager)) {
+        if (isEntityOnDamageTile(entityCoordinate.x, entityCoordinate.y, this, level)) {
             initiateDamage(1);
         }
     }
@@ -127,14 +126,12 @@ public class Player extends Entity {
     /**
      * updateMovement | Updates the movement of the player.
      * @param level The current level of the game.
-     * @param tileManager The TileManager containing data about the tiles of the game/level.
      */
     @Override
-    protected void updateMovement(Level level, TileManager tileManager) {
+    protected void updateMovement(Level level) {
         if (isCharging && !isOnAir) return;
         if (isMovingLeft || isMovingRight || isJumping || isOnAir) {
             float xSpeed = 0;
-            float ySpeed = 0;
 
             if (isMovingLeft) {
                 xSpeed = -movementSpeed;
@@ -151,35 +148,24 @@ public class Player extends Entity {
                 }
             }
             if (!isOnAir) {
-                isOnAir = !isEntityOnFloor(entityCoordinate.x, entityCoordinate.y, this, level, tileManager);
+                isOnAir = !isEntityOnFloor(entityCoordinate.x, entityCoordinate.y, this, level);
             }
 
-            // if cant move, there must be extra space between border and hitBox. calculate that space and set as xSpeed.
+            // Moves as far as the tiles allow in one sweep, then lands on a floor or falls from a ceiling it stopped against.
+            float ySpeed = isOnAir ? airSpeed : 0;
+            resolveMovement(level, xSpeed, ySpeed);
+            entityCoordinate.x += movementResolver.getDeltaX();
+            entityCoordinate.y += movementResolver.getDeltaY();
             if (isOnAir) {
-                // ON AIR. X AND Y AFFECTED.
-                if (canEntityMove(entityCoordinate.x, entityCoordinate.y +airSpeed, this, level, tileManager)) {
-                    // focus on up and down speed
-                    ySpeed = airSpeed;
-                    airSpeed += GRAVITY;
+                if (movementResolver.getNormalY() < 0) {
+                    isOnAir = false;
+                    airSpeed = 0;
+                } else if (movementResolver.getNormalY() > 0) {
+                    airSpeed = FALL_SPEED_AFTER_COLLISION;
                 } else {
-                    ySpeed = getEntityYOffset(entityCoordinate.y + yHitBoxDelta, airSpeed);
-                    if (airSpeed > 0) {
-                        isOnAir = false;
-                        airSpeed = 0;
-                    } else {
-                        airSpeed = FALL_SPEED_AFTER_COLLISION;
-                    }
+                    airSpeed += GRAVITY;
                 }
             }
-
-            if (!canEntityMove(entityCoordinate.x +xSpeed, entityCoordinate.y, this, level, tileManager)) {
-                xSpeed = getEntityXOffset(entityCoordinate.x + xHitBoxDelta, isMovingLeft);
-            }
-
-            if (canEntityMove(entityCoordinate.x + xSpeed, entityCoordinate.y + ySpeed, this, level, tileManager)) {
-                entityCoordinate.x += xSpeed;
-                entityCoordinate.y += ySpeed;
-            }
         }
     }
 
@@ -245,12 +231,12 @@ public class Player extends Entity {
 
         // Adds the idle state of the player and fetches its corresponding animation images.
         animations.put("idle", new BufferedImage[1]);
-        animations.get("idle")[0] = Atlas.getSpriteAtlas(Atlas.PLAYER_STATIC_IDLE).getSubimage(xImg, yImg, bitWidth, bitHeight);
+        animations.get("idle")[0] = Atlas.getSpriteFrame(Atlas.PLAYER_STATIC_IDLE, xImg, yImg, bitWidth, bitHeight);
 
         // Adds the wake state of the player and fetches its corresponding animation images.
         animations.put("wake", new BufferedImage[5]);
         for (int i = 0; i < 5; i++) {
-            animations.get("wake")[i] = Atlas.getSpriteAtlas(Atlas.PLAYER_WAKE).getSubimage(xImg, i*26+yImg, bitWidth, bitHeight);
+            animations.get("wake")[i] = Atlas.getSpriteFrame(Atlas.PLAYER_WAKE, xImg, i*26+yImg, bitWidth, bitHeight);
         }
 
         // Adds the active state of the player and fetches its corresponding animation images.
@@ -260,43 +246,43 @@ public class Player extends Entity {
         // Adds the move state of the player and fetches its corresponding animation images.
         animations.put("move", new BufferedImage[8]);
         for (int i = 0; i < 8; i++) {
-            animations.get("move")[i] = Atlas.getSpriteAtlas(Atlas.PLAYER_MOVE).getSubimage(xImg, i*26+yImg, bitWidth, bitHeight);
+            animations.get("move")[i] = Atlas.getSpriteFrame(Atlas.PLAYER_MOVE, xImg, i*26+yImg, bitWidth, bitHeight);
         }
 
         // Adds the jump state of the player and fetches its corresponding animation images.
         animations.put("jump", new BufferedImage[8]);
         for (int i = 0; i < 8; i++) {
-            animations.get("jump")[i] = Atlas.getSpriteAtlas(Atlas.PLAYER_JUMP).getSubimage(xImg, i*26+yImg, bitWidth, bitHeight);
+            animations.get("jump")[i] = Atlas.getSpriteFrame(Atlas.PLAYER_JUMP, xImg, i*26+yImg, bitWidth, bitHeight);
         }
 
         // Adds the charge state of the player and fetches its corresponding animation images.
         animations.put("charge", new BufferedImage[4]);
         for (int i = 0; i < 4; i++) {
-            animations.get("charge")[i] = Atlas.getSpriteAtlas(Atlas.PLAYER_CHARGE).getSubimage(xImg, i*26+yImg, bitWidth, bitHeight);
+            animations.get("charge")[i] = Atlas.getSpriteFrame(Atlas.PLAYER_CHARGE, xImg, i*26+yImg, bitWidth, bitHeight);
         }
 
         // Adds the shoot state of the player and fetches its corresponding animation images.
         animations.put("shoot", new BufferedImage[4]);
         for (int i = 0; i < 4; i++) {
-            animations.get("shoot")[i] = Atlas.getSpriteAtlas(Atlas.PLAYER_SHOOT).getSubimage(xImg, i*26+yImg, bitWidth, bitHeight);
+            animations.get("shoot")[i] = Atlas.getSpriteFrame(Atlas.PLAYER_SHOOT, xImg, i*26+yImg, bitWidth, bitHeight);
         }
 
         // Adds the dash state of the player and fetches its corresponding animation images.
         animations.put("dash", new BufferedImage[7]);
         for (int i = 0; i < 7; i++) {
-            animations.get("dash")[i] = Atlas.getSpriteAtlas(Atlas.PLAYER_GAS_DASH).getSubimage(xImg, i*26+yImg, bitWidth, bitHeight);
+            animations.get("dash")[i] = Atlas.getSpriteFrame(Atlas.PLAYER_GAS_DASH, xImg, i*26+yImg, bitWidth, bitHeight);
         }
 
         // Adds the damaged state of the player and fetches its corresponding animation images.
         animations.put("damaged", new BufferedImage[2]);
         for (int i = 0; i < 2; i++) {
-            animations.get("damaged")[i] = Atlas.getSpriteAtlas(Atlas.PLAYER_DAMAGED).getSubimage(xImg, i*26+yImg, bitWidth, bitHeight);
+            animations.get("damaged")[i] = Atlas.getSpriteFrame(Atlas.PLAYER_DAMAGED, xImg, i*26+yImg, bitWidth, bitHeight);
         }
 
         // Adds the death state of the player and fetches its corresponding animation images.
         animations.put("death", new BufferedImage[6]);
         for (int i = 0; i < 6; i++) {
-            animations.get("death")[i] = Atlas.getSpriteAtlas(Atlas.PLAYER_DEATH).getSubimage(xImg, i*26+yImg, bitWidth, bitHeight);
+            animations.get("death")[i] = Atlas.getSpriteFrame(Atlas.PLAYER_DEATH, xImg, i*26+yImg, bitWidth, bitHeight);
         }
     }
 
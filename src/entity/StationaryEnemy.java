@@ -1,7 +1,6 @@
 package entity;
 
 import level.Level;
-import tile.TileManager;
 
 import java.awt.*;
 
@@ -58,7 +57,7 @@ public class StationaryEnemy extends Enemy {
     }
 
     @Override
-    protected void updateMovement(Level level, TileManager tileManager) {
+    protected void updateMovement(Level level) {
 
     }
 
@@ -40,8 +40,19 @@ public class GameOverOverlay extends Overlay{
     @Override
     protected void drawOverlayText(Graphics2D graphics) {
         gameOverText.renderText(graphics, game.getScreenWidth());
-        restartText.renderText(graphics, game.getScreenWidth());
-        exitText.renderText(graphics, game.getScreenWidth());
+        restartText.drawText(graphics, game.getScreenWidth());
+        exitText.drawText(graphics, game.getScreenWidth());
+    }
+
+    @Override
+    protected void updateTextColors() {
+        screen.updateText(restartText);
+        screen.updateText(exitText);
+    }
+
+    @Override
+    public boolean isAnimating() {
+        return restartText.isActive() || exitText.isActive();
     }
 
     @Override
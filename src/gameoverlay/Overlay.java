@@ -2,14 +2,24 @@ package gameoverlay;
 
 import gamestate.PlayState;
 import main.Game;
+import render.RetainedScreen;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
 /**
  * The Overlay class is an abstract class containing the state and behavior of
  * an overlay window in the game.
  */
 public abstract class Overlay {
+    /**The color of the translucent backdrop covering the game screen.*/
+    private static final Color BACKDROP_COLOR = new Color(0, 0, 0, 200);
+    /**The color of the overlay window.*/
+    private static final Color WINDOW_COLOR = new Color(0, 0, 0, 230);
+    /**The color of the border of the overlay window.*/
+    private static final Color BORDER_COLOR = new Color(255, 255, 255, 200);
+    /**The stroke of the border of the overlay window.*/
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(3);
     /**Comprises the entire component of the game and manages its state.*/
     protected Game game;
     /**The current play state of the game.*/
@@ -20,6 +30,10 @@ public abstract class Overlay {
     protected int windowHeight;
     /**The x,y-coordinate position of the overlay window.*/
     protected Point windowCoordinate;
+    /**The overlay composed over the frozen game frame, drawn again only where it changed.*/
+    protected final RetainedScreen screen;
+    /**The game frame captured when the game was frozen under the overlay.*/
+    private BufferedImage frozenFrame;
 
     /**
      * Overlay is the superclass of all types of overlays displayed in the game.
@@ -33,27 +47,68 @@ public abstract class Overlay {
         this.windowWidth = windowWidth;
         this.windowHeight = windowHeight;
         this.windowCoordinate = new Point((game.getScreenWidth() - windowWidth)/2,  (game.getScreenHeight() - windowHeight)/2);
+        this.screen = new RetainedScreen(game.getScreenWidth(), game.getScreenHeight(), this::drawOverlay);
 
     }
 
     /**
-     * drawOverlayWindow displays the overlay window to the game screen.
-     * @param graphics  The graphics object that draws images on the game screen.
+     * renderOverlay displays the overlay window over the frozen game frame. The overlay is composed
+     * over the frame once, and only the interactive text whose color changed is composed again.
+     * @param graphics      The graphics object that draws images on the game screen.
+     * @param frozenFrame   The game frame captured when the game was frozen under the overlay.
+     */
+    public void renderOverlay(Graphics2D graphics, BufferedImage frozenFrame) {
+        this.frozenFrame = frozenFrame;
+        updateTextColors();
+        screen.render(graphics);
+    }
+
+    /**
+     * invalidate makes the overlay be composed again in full on the next frame, as the frozen game frame under it changed.
      */
-    public void renderOverlay(Graphics2D graphics) {
-        graphics.setColor(new Color(0, 0, 0, 200));
+    public void invalidate() {
+        screen.invalidate();
+    }
+
+    /**
+     * drawOverlay draws the frozen game frame and the overlay window over it.
+     * @param graphics  The graphics object that draws images on the composed overlay.
+     */
+    private void drawOverlay(Graphics2D graphics) {
+        graphics.drawImage(frozenFrame, 0, 0, null);
+        drawOverlayWindow(graphics);
+    }
+
+    /**
+     * drawOverlayWindow draws the backdrop, window, text and border of the overlay.
+     * @param graphics  The graphics object that draws images on the composed overlay.
+     */
+    private void drawOverlayWindow(Graphics2D graphics) {
+        graphics.setColor(BACKDROP_COLOR);
         graphics.fillRect(0, 0, game.getScreenWidth(), game.getScreenHeight());
 
-        graphics.setColor(new Color(0, 0, 0, 230));
+        graphics.setColor(WINDOW_COLOR);
         graphics.fillRoundRect(windowCoordinate.x, windowCoordinate.y, windowWidth, windowHeight, 15, 15);
 
         drawOverlayText(graphics);
 
-        graphics.setColor(new Color(255, 255, 255, 200));
-        graphics.setStroke(new BasicStroke(3));
+        graphics.setColor(BORDER_COLOR);
+        graphics.setStroke(BORDER_STROKE);
         graphics.drawRoundRect(windowCoordinate.x + 5, windowCoordinate.y + 5, windowWidth - 10, windowHeight - 10, 5, 5);
     }
 
+    /**
+     * updateTextColors advances the blinking effect of the interactive text of the overlay window,
+     * marking the text whose color changed to be composed again.
+     */
+    protected abstract void updateTextColors();
+
+    /**
+     * isAnimating determines if the overlay changes from frame to frame, as an active interactive text blinks.
+     * @return Returns true if any interactive text of the overlay is active.
+     */
+    public abstract boolean isAnimating();
+
     /**
      * drawOverlayText displays the text of the overlay window to the game screen.
      * @param graphics  The graphics object that draws images on the game screen.
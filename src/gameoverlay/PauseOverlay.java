@@ -51,9 +51,21 @@ public class PauseOverlay extends Overlay{
     @Override
     protected void drawOverlayText(Graphics2D graphics) {
         pauseText.renderText(graphics, game.getScreenWidth());
-        continueText.renderText(graphics, game.getScreenWidth());
-        restartText.renderText(graphics, game.getScreenWidth());
-        exitText.renderText(graphics, game.getScreenWidth());
+        continueText.drawText(graphics, game.getScreenWidth());
+        restartText.drawText(graphics, game.getScreenWidth());
+        exitText.drawText(graphics, game.getScreenWidth());
+    }
+
+    @Override
+    protected void updateTextColors() {
+        screen.updateText(continueText);
+        screen.updateText(restartText);
+        screen.updateText(exitText);
+    }
+
+    @Override
+    public boolean isAnimating() {
+        return continueText.isActive() || restartText.isActive() || exitText.isActive();
     }
 
     @Override
@@ -1,11 +1,10 @@
 package gamestate;
 
 import credits.Credits;
+import inputs.GameInput;
 import main.Game;
 
 import java.awt.*;
-import java.awt.event.KeyEvent;
-import java.awt.event.MouseEvent;
 
 /**
  * The CreditsState class extends the State class and implements
@@ -27,38 +26,50 @@ public class CreditsState extends State implements StateMethods {
         credits.renderCredits(graphics);
     }
 
+    @Override
+    public boolean isAnimating() {
+        return credits.isAnimating();
+    }
+
+    /**
+     * invalidate | Makes the credits state be drawn again in full on the next frame, as it is switched to.
+     */
+    public void invalidate() {
+        credits.invalidate();
+    }
+
     @Override
     public void update() {
 
     }
 
     @Override
-    public void mouseClicked(MouseEvent e) {
+    public void mouseClicked(GameInput e) {
         credits.updateState();
     }
 
     @Override
-    public void mousePressed(MouseEvent e) {
+    public void mousePressed(GameInput e) {
 
     }
 
     @Override
-    public void mouseReleased(MouseEvent e) {
+    public void mouseReleased(GameInput e) {
 
     }
 
     @Override
-    public void mouseMoved(MouseEvent e) {
+    public void mouseMoved(GameInput e) {
         credits.updateInteractiveText(e.getX(), e.getY());
     }
 
     @Override
-    public void keyPressed(KeyEvent e) {
+    public void keyPressed(GameInput e) {
 
     }
 
     @Override
-    public void keyReleased(KeyEvent e) {
+    public void keyReleased(GameInput e) {
 
     }
 }
\ No newline at end of file
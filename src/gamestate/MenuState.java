@@ -1,11 +1,10 @@
 package gamestate;
 
+import inputs.GameInput;
 import main.Game;
 import menu.Menu;
 
 import java.awt.*;
-import java.awt.event.KeyEvent;
-import java.awt.event.MouseEvent;
 
 /**
  * The MenuState class extends the class State and implements
@@ -32,37 +31,49 @@ public class MenuState extends State implements StateMethods {
         menu.renderMenu(graphics);
     }
 
+    @Override
+    public boolean isAnimating() {
+        return menu.isAnimating();
+    }
+
+    /**
+     * invalidate | Makes the menu state be drawn again in full on the next frame, as it is switched to.
+     */
+    public void invalidate() {
+        menu.invalidate();
+    }
+
     @Override
     public void update() {
 
     }
 
     @Override
-    public void mouseClicked(MouseEvent e) {
+    public void mouseClicked(GameInput e) {
         menu.updateState();
     }
 
     @Override
-    public void mousePressed(MouseEvent e) {
+    public void mousePressed(GameInput e) {
     }
 
     @Override
-    public void mouseReleased(MouseEvent e) {
+    public void mouseReleased(GameInput e) {
 
     }
 
     @Override
-    public void mouseMoved(MouseEvent e) {
+    public void mouseMoved(GameInput e) {
         menu.updateInteractiveText(e.getX(), e.getY());
     }
 
     @Override
-    public void keyPressed(KeyEvent e) {
+    public void keyPressed(GameInput e) {
 
     }
 
     @Override
-    public void keyReleased(KeyEvent e) {
+    public void keyReleased(GameInput e) {
 
     }
 }
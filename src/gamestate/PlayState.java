@@ -1,22 +1,29 @@
 package gamestate;
 
+import entity.Enemy;
 import entity.EnemyManager;
 import entity.Player;
 import gameoverlay.GameOverOverlay;
+import gameoverlay.Overlay;
 import gameoverlay.PauseOverlay;
+import hearts.Hearts;
+import inputs.GameInput;
 import level.Level;
 import level.LevelManager;
 import loading.Loading;
 import loading.LoadingPhase;
 import main.Game;
+import projectiles.Projectile;
 import projectiles.ProjectileManager;
-import tile.TileManager;
+import render.FrameSnapshot;
+import render.SpriteCache;
+import render.Viewport;
+import utility.ImageUtils;
 
-import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.awt.event.MouseEvent;
 import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
 
 import static utility.LoadingUtils.getScreenDestination;
 import static utility.PlayUtils.isPlayerOnDoor;
@@ -33,8 +40,6 @@ public class PlayState extends State implements StateMethods {
     private Player player;
     /**Manages the levels of the game and its state.*/
     private final LevelManager levelManager;
-    /**Manages the tiles used in the game.*/
-    private TileManager tileManager;
     /**Manages the enemies in the current level of the game.*/
     private EnemyManager enemyManager;
     /**Manages the projectiles in the current level of the game.*/
@@ -51,6 +56,8 @@ public class PlayState extends State implements StateMethods {
     private boolean isPaused;
     /**The offset of the player as it reaches the border on the x-axis of the game screen.*/
     private double xOffset;
+    /**The xOffset at the end of the previous update.*/
+    private double previousXOffset;
     /**The maximum value of offset of the player in the x-axis of the game screen.*/
     private int maxXOffset;
     /**The x-coordinate for the left border of the player on the game screen.*/
@@ -59,8 +66,20 @@ public class PlayState extends State implements StateMethods {
     private final int rightBorder;
     /** The offset of the player as it reaches the border on the y-axis of the game screen.*/
     private double yOffset;
+    /**The yOffset at the end of the previous update.*/
+    private double previousYOffset;
+    /**Determines if the offsets should jump to their new values instead of being blended on the next update.*/
+    private boolean isOffsetSnapping;
     /**The maximum value of offset of the player in the y-axis of the game screen.*/
     private int maxYOffset;
+    /**The rectangle of the level visible on the game screen for the frame being drawn. Only used by the render thread.*/
+    private final Viewport viewport = new Viewport();
+    /**The animation frames prepared at their displayed size and direction. Only used by the render thread.*/
+    private final SpriteCache spriteCache = new SpriteCache();
+    /**The game frame captured once when the game is frozen under an overlay, or null until it is first captured. Only used by the render thread.*/
+    private BufferedImage frozenFrame;
+    /**The overlay the frozen frame was captured for, or null if the game is not frozen. Only used by the render thread.*/
+    private Overlay frozenOverlay;
     /**The y-coordinate for the upper border of the player on the game screen.*/
     private final int upBorder;
     /**The y-coordinate for the lower border of the player on the game screen.*/
@@ -74,9 +93,8 @@ public class PlayState extends State implements StateMethods {
     public PlayState(Game game) {
         super(game);
         levelManager = new LevelManager(game);
-        tileManager = new TileManager();
         enemyManager = new EnemyManager(levelManager.getCurrentLevel());
-        projectileManager = new ProjectileManager(levelManager.getCurrentLevel(), tileManager, enemyManager);
+        projectileManager = new ProjectileManager(levelManager.getCurrentLevel(), enemyManager);
 
         player = new Player(levelManager.getCurrentLevel().getPlayerCoordinate().x, levelManager.getCurrentLevel().getPlayerCoordinate().y, 36, 23, game.getEntityScale(), 1,4);
 
@@ -99,10 +117,21 @@ public class PlayState extends State implements StateMethods {
         maxYOffset = (levelHeightTiles - screenHeight/tileSize)*tileSize;
     }
 
+    /**
+     * loadLevel sets the current level of the play state and restarts the play state on it.
+     * @param levelNumber The level number of the level to load.
+     */
+    public void loadLevel(int levelNumber) {
+        levelManager.loadLevel(levelNumber);
+        restartPlayState();
+    }
+
+    /**
+     * restartPlayState restarts the player, enemies and projectiles of the current level.
+     */
     public void restartPlayState() {
-        tileManager = new TileManager();
         enemyManager = new EnemyManager(levelManager.getCurrentLevel());
-        projectileManager = new ProjectileManager(levelManager.getCurrentLevel(), tileManager, enemyManager);
+        projectileManager = new ProjectileManager(levelManager.getCurrentLevel(), enemyManager);
 
         player = new Player(levelManager.getCurrentLevel().getPlayerCoordinate().x, levelManager.getCurrentLevel().getPlayerCoordinate().y, 36, 23, game.getEntityScale(), 1,4);
 
@@ -115,35 +144,112 @@ public class PlayState extends State implements StateMethods {
 
         maxXOffset = (levelWidthTiles - screenWidth/tileSize)*tileSize;
         maxYOffset = (levelHeightTiles - screenHeight/tileSize)*tileSize;
+        isOffsetSnapping = true;
     }
 
 
+    /**
+     * render displays the play state from the frame snapshot being drawn by the render thread.
+     * Only the snapshot and the overlays are read, never the state changed by update.
+     * @param graphics The graphics object that draws state components on the game screen.
+     */
     @Override
     public void render(Graphics graphics) {
-        levelManager.renderLevel(graphics, xOffset, yOffset);
-        enemyManager.renderEnemies((Graphics2D) graphics, xOffset, yOffset);
-        projectileManager.renderPlayerProjectiles((Graphics2D) graphics, xOffset, yOffset);
+        Graphics2D graphics2D = (Graphics2D) graphics;
+        FrameSnapshot snapshot = game.getRenderSnapshot();
+        Overlay overlay = snapshot.isGameOver() ? gameOverOverlay : snapshot.isPaused() ? pauseOverlay : null;
+        if (overlay == null) {
+            frozenOverlay = null;
+            renderScene(graphics2D, snapshot);
+            return;
+        }
+        // Nothing moves under an overlay, so the game frame is captured once and the overlay is composed over it.
+        if (overlay != frozenOverlay) {
+            if (frozenFrame == null) frozenFrame = ImageUtils.createCompatibleImage(game.getScreenWidth(), game.getScreenHeight(), Transparency.OPAQUE);
+            Graphics2D frameGraphics = frozenFrame.createGraphics();
+            frameGraphics.setColor(Color.BLACK);
+            frameGraphics.fillRect(0, 0, game.getScreenWidth(), game.getScreenHeight());
+            renderScene(frameGraphics, snapshot);
+            frameGraphics.dispose();
+            overlay.invalidate();
+            frozenOverlay = overlay;
+        }
+        overlay.renderOverlay(graphics2D, frozenFrame);
+    }
+
+    @Override
+    public boolean isAnimating() {
+        FrameSnapshot snapshot = game.getRenderSnapshot();
+        if (snapshot.isGameOver()) return gameOverOverlay.isAnimating();
+        if (snapshot.isPaused()) return pauseOverlay.isAnimating();
+        return true;
+    }
+
+    /**
+     * renderScene draws the level, sprites and loading screen of the frame snapshot. The level is drawn from
+     * tiles kept at the resolution of the native art, while sprites are drawn at the resolution of the game
+     * screen at their blended positions.
+     * @param graphics2D    The graphics object that draws state components on the game screen.
+     * @param snapshot      The frame snapshot being drawn by the render thread.
+     */
+    private void renderScene(Graphics2D graphics2D, FrameSnapshot snapshot) {
+        // Nothing moves while paused or game over, so the latest update is drawn as is.
+        float alpha = snapshot.isInterpolated() ? game.getRenderAlpha() : 1.0f;
+        viewport.set(snapshot.getXOffset(alpha), snapshot.getYOffset(alpha), game.getScreenWidth(), game.getScreenHeight());
+        Hearts.updateAnimation();
+        levelManager.renderLevel(graphics2D, snapshot.getLevel(), viewport);
+        for (int i = 0; i < snapshot.getEnemyCount(); i++) {
+            snapshot.getEnemy(i).renderSprite(graphics2D, viewport, spriteCache, alpha);
+        }
+        for (int i = 0; i < snapshot.getProjectileCount(); i++) {
+            snapshot.getProjectile(i).renderSprite(graphics2D, viewport, spriteCache, alpha);
+        }
+        if (snapshot.getLoading() != null) {
+            snapshot.getLoading().renderLoading(graphics2D, snapshot.getLoadingAlpha());
+        }
+        if (snapshot.isPlayerVisible()) {
+            snapshot.getPlayer().renderSprite(graphics2D, viewport, spriteCache, alpha);
+        }
+        graphics2D.setComposite(AlphaComposite.SrcOver);
+    }
+
+    /**
+     * captureSnapshot stores the drawable state of the play state at the end of the
+     * current update, to be published to the render thread.
+     * @param snapshot The frame snapshot to be filled with the state of the play state.
+     */
+    public void captureSnapshot(FrameSnapshot snapshot) {
+        snapshot.setOffsets(previousXOffset, previousYOffset, xOffset, yOffset);
+        snapshot.setIsInterpolated(!isPaused && !player.isDead());
+        snapshot.setLevel(levelManager.getCurrentLevel());
+        snapshot.clearSprites();
+        enemyManager.captureEnemies(snapshot);
+        projectileManager.capturePlayerProjectiles(snapshot);
         if (isLoading) {
-            loading.renderLoading(graphics, levelManager.getCurrentLevel().getLevelDimension());
+            snapshot.setLoading(loading, loading.getAlphaValue());
         } else {
-            updateOffsetsFromPlayer();
-            player.renderEntity((Graphics2D) graphics, xOffset, yOffset);
+            snapshot.setLoading(null, 0);
+            player.captureSnapshot(snapshot.getPlayer());
         }
-        if (player.isDead()) gameOverOverlay.renderOverlay((Graphics2D) graphics);
-        if (isPaused && !player.isDead()) pauseOverlay.renderOverlay((Graphics2D) graphics);
+        snapshot.setIsPlayerVisible(!isLoading);
+        snapshot.setIsPaused(isPaused);
+        snapshot.setIsGameOver(player.isDead());
     }
 
     @Override
     public void update() {
         if (player.isDead()) return;
+        previousXOffset = xOffset;
+        previousYOffset = yOffset;
         if (isLoading) {
             Level currentLevel = levelManager.getCurrentLevel();
-            loading.updateLoadingPhase(game.getGameTime());
+            loading.updateLoadingPhase();
             switch(LoadingPhase.phase){
                 case START -> {
                     loading.updateAlphaValue(false);
                     xOffset = loading.getxLoadingPosition();
                     yOffset = loading.getyLoadingPosition();
+                    isOffsetSnapping = true;
                 }
                 case TRANSITION -> {
                     // Determine xOffsetSpeed and yOffsetSpeed if not yet set.
@@ -158,10 +264,17 @@ public class PlayState extends State implements StateMethods {
             }
         }
         if (!isLoading) {
-            player.updateEntity(levelManager.getCurrentLevel(), tileManager);
+            player.updateEntity(levelManager.getCurrentLevel());
+            updateOffsetsFromPlayer();
         }
-        enemyManager.updateEnemies(levelManager.getCurrentLevel(), tileManager, player);
+        enemyManager.updateActivityZone(xOffset, yOffset, game.getScreenWidth(), game.getScreenHeight());
+        enemyManager.updateEnemies(levelManager.getCurrentLevel(), player);
         projectileManager.updatePlayerProjectiles();
+        if (isOffsetSnapping) {
+            previousXOffset = xOffset;
+            previousYOffset = yOffset;
+            isOffsetSnapping = false;
+        }
     }
 
     /**
@@ -236,28 +349,28 @@ public class PlayState extends State implements StateMethods {
     }
 
     @Override
-    public void mouseClicked(MouseEvent e) {
+    public void mouseClicked(GameInput e) {
         if (isPaused && !player.isDead()) pauseOverlay.updateState();
         if (player.isDead()) gameOverOverlay.updateState();
     }
 
     @Override
-    public void mousePressed(MouseEvent e) {
+    public void mousePressed(GameInput e) {
         if (isPaused) return;
-        if (SwingUtilities.isLeftMouseButton(e) && !player.getIsGunOnCoolDown() && !player.getIsOnAir()) {
+        if (e.isLeftMouseButton() && !player.getIsGunOnCoolDown() && !player.getIsOnAir()) {
             player.setIsCharging(true);
         }
 
     }
 
     @Override
-    public void mouseReleased(MouseEvent e) {
+    public void mouseReleased(GameInput e) {
         if (isPaused) return;
-        if (SwingUtilities.isLeftMouseButton(e) && !player.getIsGunOnCoolDown() && player.getIsCharging()) {
+        if (e.isLeftMouseButton() && !player.getIsGunOnCoolDown() && player.getIsCharging()) {
             Point2D.Float startCoordinate = player.getGunPointCoordinate();
             Point2D.Float endCoordinate = new Point2D.Float(e.getX(), e.getY());
             // Creates a projectile.
-            projectileManager.createPlayerProjectile(startCoordinate, endCoordinate, xOffset, yOffset, player.getDamageValue());
+            projectileManager.createPlayerProjectile(startCoordinate, endCoordinate, xOffset, yOffset);
             // Sets state of the player.
             player.setIsCharging(false);
             player.setIsShooting(true);
@@ -266,18 +379,18 @@ public class PlayState extends State implements StateMethods {
     }
 
     @Override
-    public void mouseMoved(MouseEvent e) {
+    public void mouseMoved(GameInput e) {
         if (isPaused && !player.isDead()) pauseOverlay.updateInteractiveText(e.getX(), e.getY());
         if (player.isDead()) gameOverOverlay.updateInteractiveText(e.getX(), e.getY());
     }
 
     @Override
-    public void keyPressed(KeyEvent e) {
+    public void keyPressed(GameInput e) {
         switch (e.getKeyCode()) {
             case KeyEvent.VK_ESCAPE -> isPaused = !isPaused;
             case KeyEvent.VK_ENTER -> {
                 isLoading = false;
-                if (isPlayerOnDoor(player.getEntityCoordinate().x, player.getEntityCoordinate().y, player, levelManager.getCurrentLevel(), tileManager)) {
+                if (isPlayerOnDoor(player.getEntityCoordinate().x, player.getEntityCoordinate().y, player, levelManager.getCurrentLevel())) {
                     levelManager.incrementLevel();
                     restartPlayState();
                     initLoading();
@@ -293,7 +406,7 @@ public class PlayState extends State implements StateMethods {
     }
 
     @Override
-    public void keyReleased(KeyEvent e) {
+    public void keyReleased(GameInput e) {
         switch (e.getKeyCode()) {
             case KeyEvent.VK_SPACE -> player.setIsJumping(false);
             case KeyEvent.VK_A -> player.setIsMovingLeft(false);
@@ -301,6 +414,48 @@ public class PlayState extends State implements StateMethods {
         }
     }
 
+    /**
+     * computeChecksum combines the positions of the player, enemies and projectiles, the offsets
+     * and the current level into a single value, used to check that a replayed session
+     * stays identical to its recording.
+     * @return Returns the checksum of the current play state.
+     */
+    public long computeChecksum() {
+        long checksum = levelManager.getCurrentLevel().getLevelNumber();
+        checksum = checksum * 31 + (isLoading ? 1 : 0) + (isPaused ? 2 : 0) + (player.isDead() ? 4 : 0);
+        checksum = checksum * 31 + Double.doubleToLongBits(xOffset);
+        checksum = checksum * 31 + Double.doubleToLongBits(yOffset);
+        checksum = checksum * 31 + Float.floatToIntBits(player.getEntityCoordinate().x);
+        checksum = checksum * 31 + Float.floatToIntBits(player.getEntityCoordinate().y);
+        for (Enemy enemy : enemyManager.getEnemyList()) {
+            checksum = checksum * 31 + Float.floatToIntBits(enemy.getEntityCoordinate().x);
+            checksum = checksum * 31 + Float.floatToIntBits(enemy.getEntityCoordinate().y);
+        }
+        for (Projectile projectile : projectileManager.getPlayerProjectiles()) {
+            checksum = checksum * 31 + Float.floatToIntBits(projectile.getHitBox().x);
+            checksum = checksum * 31 + Float.floatToIntBits(projectile.getHitBox().y);
+        }
+        return checksum;
+    }
+
+    /**
+     * getViewport fetches the rectangle of the level visible on the game screen for the frame last drawn.
+     * @return Returns the Viewport of the play state.
+     */
+    public Viewport getViewport() {return viewport;}
+
+    /**
+     * getLevelManager fetches the manager of the levels of the play state.
+     * @return Returns the LevelManager of the play state.
+     */
+    public LevelManager getLevelManager() {return levelManager;}
+
+    /**
+     * getLevelNumber fetches the level number of the current level of the play state.
+     * @return Returns the level number of the current level.
+     */
+    public int getLevelNumber() {return levelManager.getCurrentLevel().getLevelNumber();}
+
     /**
      * isPaused fetches the current isPaused state of PlayState.
      * @return Returns a boolean value determining whether the current game is paused or not.
@@ -1,8 +1,8 @@
 package gamestate;
 
+import inputs.GameInput;
+
 import java.awt.*;
-import java.awt.event.KeyEvent;
-import java.awt.event.MouseEvent;
 
 /**
  * StateMethods is an interface implementing the methods
@@ -16,6 +16,13 @@ public interface StateMethods {
      */
     void render(Graphics graphics);
 
+    /**
+     * isAnimating | Determines if the rendered components of the state change from frame to frame.
+     * Called by the render thread, which drops to the idle frame rate while no state is animating.
+     * @return Returns true if the state must be rendered at the target frame rate.
+     */
+    boolean isAnimating();
+
     /**
      * update | Updates the states of the game.
      */
@@ -23,37 +30,37 @@ public interface StateMethods {
 
     /**
      * mouseClicked | Executes events following the click of the user's mouse.
-     * @param e A MouseEvent containing information about user mouse input.
+     * @param e A GameInput containing information about user mouse input.
      */
-    void mouseClicked(MouseEvent e);
+    void mouseClicked(GameInput e);
 
     /**
      * mousePressed | Executes events following the pressed buttons of the user's mouse.
-     * @param e A MouseEvent containing information about user mouse input.
+     * @param e A GameInput containing information about user mouse input.
      */
-    void mousePressed(MouseEvent e);
+    void mousePressed(GameInput e);
 
     /**
      * mouseReleased | Executes events following the release of the buttons of the user's mouse.
-     * @param e A MouseEvent containing information about user mouse input.
+     * @param e A GameInput containing information about user mouse input.
      */
-    void mouseReleased(MouseEvent e);
+    void mouseReleased(GameInput e);
 
     /**
      * mouseMoved | Executes events following the movement of the user's mouse.
-     * @param e A MouseEvent containing information about user mouse input.
+     * @param e A GameInput containing information about user mouse input.
      */
-    void mouseMoved(MouseEvent e);
+    void mouseMoved(GameInput e);
 
     /**
      * keyPressed | Executes events following the press of the keys of the user's keyboard.
-     * @param e A KeyEvent containing information about user keyboard input.
+     * @param e A GameInput containing information about user keyboard input.
      */
-    void keyPressed(KeyEvent e);
+    void keyPressed(GameInput e);
 
     /**
      * keyReleased | Executes events following the release of the keys of the user's keyboard.
-     * @param e A KeyEvent containing information about user keyboard input.
+     * @param e A GameInput containing information about user keyboard input.
      */
-    void keyReleased(KeyEvent e);
+    void keyReleased(GameInput e);
 }
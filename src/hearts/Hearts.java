@@ -1,10 +1,9 @@
 package hearts;
 
-import entity.Entity;
+import render.Viewport;
 import utility.Atlas;
 
 import java.awt.*;
-import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 
 /**
@@ -21,9 +20,9 @@ public class Hearts {
     private static final BufferedImage[] heartAnimations = Atlas.extractAnimationImages(Atlas.HEART_ANIMATIONS, 16, 16);
     /**
      * A double used as a counter for transitioning between each animation frame
-     * on a given animation state.
+     * on a given animation state. Advanced by the render thread once per frame.
      */
-    private float animationCounter;
+    private static float animationCounter;
 
     /**
      * Hearts instantiates a Hearts object that contains the number of hearts of a given
@@ -36,25 +35,32 @@ public class Hearts {
     }
 
     /**
-     * displayHearts displays the hearts of the entity.
-     * @param graphics  The graphics object that draws images on the game screen.
-     * @param entity    An entity instance.
-     * @param xOffset   The x-value offset of the entity on the game screen.
-     * @param yOffset   The y-value offset of the entity on the game screen.
+     * updateAnimation advances the heart animation shared by all entities by one frame.
      */
-    public void displayHearts(Graphics2D graphics, Entity entity, double xOffset, double yOffset) {
+    public static void updateAnimation() {
         animationCounter += 0.15f;
-        if (animationCounter > 3.0) {
+        if (animationCounter >= 3.0) {
             animationCounter = 0.0f;
         }
-        BufferedImage currentHeart = heartAnimations[(int) Math.floor(animationCounter)];
-        Rectangle2D.Float entityHitBox = entity.getHitBox();
-
-        Point.Float entityCenterTop = new Point.Float((entityHitBox.x+(entityHitBox.width*entity.getEntityScale())/2), entity.getEntityCoordinate().y);
+    }
 
-        int xCoordinate = (int) (entityCenterTop.x - (currentNumberOfHearts*16 - 2*(currentNumberOfHearts-1))/2);
-        int yCoordinate = (int) (entityCenterTop.y - 15);
-        for (int i = 0; i < currentNumberOfHearts; i++) {
+    /**
+     * displayHearts displays the hearts of an entity, unless they are outside the viewport.
+     * @param graphics          The graphics object that draws images on the game screen.
+     * @param viewport          The rectangle of the level visible on the game screen.
+     * @param numberOfHearts    The number of hearts to display.
+     * @param centerX           The center x-coordinate of the hit box of the entity.
+     * @param topY              The top y-coordinate of the entity.
+     * @param xOffset           The x-value offset of the entity on the game screen.
+     * @param yOffset           The y-value offset of the entity on the game screen.
+     */
+    public static void displayHearts(Graphics2D graphics, Viewport viewport, int numberOfHearts, float centerX, float topY, double xOffset, double yOffset) {
+        if (numberOfHearts <= 0) return;
+        BufferedImage currentHeart = heartAnimations[(int) Math.floor(animationCounter)];
+        int xCoordinate = (int) (centerX - (numberOfHearts*16 - 2*(numberOfHearts-1))/2);
+        int yCoordinate = (int) (topY - 15);
+        if (!viewport.isOnScreen(xCoordinate - xOffset, yCoordinate - yOffset, numberOfHearts*18, 16)) return;
+        for (int i = 0; i < numberOfHearts; i++) {
             graphics.drawImage(currentHeart,(int) (xCoordinate+i*18 - xOffset), (int) (yCoordinate - yOffset), 16, 16, null);
         }
     }
@@ -0,0 +1,83 @@
+package inputs;
+
+import java.awt.event.MouseEvent;
+
+/**
+ * The GameInput class contains a single user input waiting in the
+ * InputQueue to be applied by the game thread. Its instances are
+ * slots of the queue and are reused once the input has been applied.
+ */
+public class GameInput {
+    /**The kind of the input.*/
+    private GameInputType type;
+    /**The key code of the keyboard key of a key input.*/
+    private int keyCode;
+    /**The mouse button of a mouse input.*/
+    private int button;
+    /**The x-coordinate position of the mouse on the game screen.*/
+    private int x;
+    /**The y-coordinate position of the mouse on the game screen.*/
+    private int y;
+    /**The System.nanoTime() value when the input was received.*/
+    private long timestamp;
+
+    /**
+     * set stores the values of the input.
+     * @param type      The kind of the input.
+     * @param keyCode   The key code of the keyboard key of a key input.
+     * @param button    The mouse button of a mouse input.
+     * @param x         The x-coordinate position of the mouse on the game screen.
+     * @param y         The y-coordinate position of the mouse on the game screen.
+     * @param timestamp The System.nanoTime() value when the input was received.
+     */
+    void set(GameInputType type, int keyCode, int button, int x, int y, long timestamp) {
+        this.type = type;
+        this.keyCode = keyCode;
+        this.button = button;
+        this.x = x;
+        this.y = y;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * getType fetches the kind of the input.
+     * @return Returns the GameInputType of the input.
+     */
+    public GameInputType getType() {return type;}
+
+    /**
+     * getKeyCode fetches the key code of a key input.
+     * @return Returns the KeyEvent key code of the input.
+     */
+    public int getKeyCode() {return keyCode;}
+
+    /**
+     * getButton fetches the mouse button of a mouse input.
+     * @return Returns the MouseEvent button of the input.
+     */
+    public int getButton() {return button;}
+
+    /**
+     * isLeftMouseButton determines if the input is from the left mouse button.
+     * @return Returns a boolean value determining if the input is from the left mouse button.
+     */
+    public boolean isLeftMouseButton() {return button == MouseEvent.BUTTON1;}
+
+    /**
+     * getX fetches the x-coordinate position of the mouse on the game screen.
+     * @return Returns the x-coordinate position of the mouse.
+     */
+    public int getX() {return x;}
+
+    /**
+     * getY fetches the y-coordinate position of the mouse on the game screen.
+     * @return Returns the y-coordinate position of the mouse.
+     */
+    public int getY() {return y;}
+
+    /**
+     * getTimestamp fetches the time the input was received.
+     * @return Returns the System.nanoTime() value when the input was received.
+     */
+    public long getTimestamp() {return timestamp;}
+}
@@ -0,0 +1,28 @@
+package inputs;
+
+/**
+ * GameInputType is an enum of the kinds of user input
+ * applied to the states of the game.
+ */
+public enum GameInputType {
+    /**A key of the keyboard was pressed.*/
+    KEY_PRESSED,
+    /**A key of the keyboard was released.*/
+    KEY_RELEASED,
+    /**A button of the mouse was clicked.*/
+    MOUSE_CLICKED,
+    /**A button of the mouse was pressed.*/
+    MOUSE_PRESSED,
+    /**A button of the mouse was released.*/
+    MOUSE_RELEASED,
+    /**The mouse was moved.*/
+    MOUSE_MOVED;
+
+    /**
+     * isRelease determines if the input releases a key or a mouse button held down by an earlier input.
+     * @return Returns true for KEY_RELEASED and MOUSE_RELEASED.
+     */
+    public boolean isRelease() {
+        return this == KEY_RELEASED || this == MOUSE_RELEASED;
+    }
+}
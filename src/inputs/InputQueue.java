@@ -0,0 +1,86 @@
+package inputs;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The InputQueue class is a lock-free ring buffer of user inputs, written by
+ * a single producer (the event dispatch thread) and read by a single consumer
+ * (the game thread). Its slots are allocated once and reused. A share of the
+ * slots is held back for key and mouse releases, so a queue filled by other
+ * inputs still takes the release of a held key or button, which would otherwise
+ * stay down until it is pressed again.
+ */
+public class InputQueue {
+    /**The slots of the ring buffer. Its length is a power of two.*/
+    private final GameInput[] slots;
+    /**The mask wrapping a sequence number into an index of the slots.*/
+    private final int mask;
+    /**The number of slots only taken by release inputs.*/
+    private final int releaseHeadroom;
+    /**The sequence number of the next input to be read by the consumer.*/
+    private final AtomicLong head = new AtomicLong();
+    /**The sequence number of the next input to be written by the producer.*/
+    private final AtomicLong tail = new AtomicLong();
+    /**The number of inputs dropped because the queue was full.*/
+    private volatile long droppedInputs;
+
+    /**
+     * InputQueue initializes an empty queue of user inputs.
+     * @param capacity The maximum number of waiting inputs, rounded up to a power of two.
+     */
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        slots = new GameInput[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new GameInput();
+        }
+        mask = size - 1;
+        releaseHeadroom = Math.max(1, size/4);
+    }
+
+    /**
+     * offer adds an input to the queue. Called by the producer only. Inputs other than releases
+     * are dropped once only the slots held back for releases are free.
+     * @param type      The kind of the input.
+     * @param keyCode   The key code of the keyboard key of a key input.
+     * @param button    The mouse button of a mouse input.
+     * @param x         The x-coordinate position of the mouse on the game screen.
+     * @param y         The y-coordinate position of the mouse on the game screen.
+     * @return Returns false if the queue was full and the input was dropped.
+     */
+    public boolean offer(GameInputType type, int keyCode, int button, int x, int y) {
+        long currentTail = tail.get();
+        int limit = type.isRelease() ? slots.length : slots.length - releaseHeadroom;
+        if (currentTail - head.get() >= limit) {
+            droppedInputs++;
+            return false;
+        }
+        slots[(int) currentTail & mask].set(type, keyCode, button, x, y, System.nanoTime());
+        tail.lazySet(currentTail + 1); // Publishes the written slot to the consumer.
+        return true;
+    }
+
+    /**
+     * peek fetches the oldest input of the queue without removing it. Called by the consumer only.
+     * @return Returns the oldest GameInput, or null if the queue is empty.
+     */
+    public GameInput peek() {
+        long currentHead = head.get();
+        if (currentHead == tail.get()) return null;
+        return slots[(int) currentHead & mask];
+    }
+
+    /**
+     * remove releases the slot of the oldest input back to the producer. Called by the consumer only,
+     * once the input returned by peek has been applied.
+     */
+    public void remove() {
+        head.lazySet(head.get() + 1);
+    }
+
+    /**
+     * getDroppedInputs fetches the number of inputs dropped because the queue was full.
+     * @return Returns the number of dropped inputs.
+     */
+    public long getDroppedInputs() {return droppedInputs;}
+}
@@ -0,0 +1,110 @@
+package inputs;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The InputRecorder class writes the user inputs applied to a play session,
+ * stamped with the number of the update they were applied on, to a compact
+ * binary file that can be replayed by InputRecording.
+ * <p>
+ * The file starts with a header of the magic number, the format version and the
+ * level number the session started on. Each input is written as its type, its
+ * update number and its key code, or its mouse button and position. The file ends
+ * with the number of recorded updates and a checksum of the play state after each update.
+ */
+public class InputRecorder {
+    /**The magic number at the start of a recording file.*/
+    static final int MAGIC = 0x524F4249; // "ROBI"
+    /**The version of the recording file format.*/
+    static final byte VERSION = 1;
+    /**The type marker written in place of an input type at the end of a recording.*/
+    static final byte END_MARKER = -1;
+    /**The stream the recording is written to.*/
+    private final DataOutputStream output;
+    /**The checksum of the play state folded over every recorded update.*/
+    private long checksum;
+    /**The number of recorded updates.*/
+    private long ticks;
+    /**The condition determining if the recording has been finished and closed.*/
+    private boolean isFinished;
+
+    /**
+     * InputRecorder creates the recording file and writes its header.
+     * @param file          The path of the recording file.
+     * @param levelNumber   The level number the recorded session starts on.
+     * @throws IOException If the recording file cannot be written.
+     */
+    public InputRecorder(Path file, int levelNumber) throws IOException {
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        output.writeInt(levelNumber);
+    }
+
+    /**
+     * record writes an input applied during the current update.
+     * @param input The user input applied to the play state.
+     */
+    public synchronized void record(GameInput input) {
+        if (isFinished) return;
+        try {
+            output.writeByte(input.getType().ordinal());
+            output.writeInt((int) ticks);
+            switch (input.getType()) {
+                case KEY_PRESSED, KEY_RELEASED -> output.writeShort(input.getKeyCode());
+                default -> {
+                    output.writeByte(input.getButton());
+                    output.writeShort(input.getX());
+                    output.writeShort(input.getY());
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * endUpdate ends the current update, folding the checksum of the play state after it into the recording.
+     * @param stateChecksum The checksum of the play state at the end of the update.
+     */
+    public synchronized void endUpdate(long stateChecksum) {
+        checksum = foldChecksum(checksum, stateChecksum);
+        ticks++;
+    }
+
+    /**
+     * finish writes the end of the recording and closes its file. Further inputs are ignored.
+     */
+    public synchronized void finish() {
+        if (isFinished) return;
+        isFinished = true;
+        try {
+            output.writeByte(END_MARKER);
+            output.writeLong(ticks);
+            output.writeLong(checksum);
+            output.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * foldChecksum combines the checksum of the play state after an update with the checksum of the previous updates.
+     * @param checksum      The checksum of the previous updates.
+     * @param stateChecksum The checksum of the play state after the update.
+     * @return Returns the checksum of the updates so far.
+     */
+    public static long foldChecksum(long checksum, long stateChecksum) {
+        return checksum * 31 + stateChecksum;
+    }
+
+    /**
+     * isFinished fetches the condition determining if the recording has been finished.
+     * @return Returns true if the recording file has been closed.
+     */
+    public synchronized boolean isFinished() {return isFinished;}
+}
@@ -0,0 +1,89 @@
+package inputs;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The InputRecording class is a play session read from a file written by
+ * InputRecorder, used to replay the session update for update.
+ */
+public class InputRecording {
+    /**The level number the recorded session starts on.*/
+    private final int levelNumber;
+    /**The recorded inputs, ordered by update number.*/
+    private final List<ScriptedInput> inputs;
+    /**The number of recorded updates.*/
+    private final long ticks;
+    /**The checksum of the play state folded over every recorded update.*/
+    private final long checksum;
+
+    /**
+     * InputRecording is a play session read from a recording file.
+     * @param levelNumber   The level number the recorded session starts on.
+     * @param inputs        The recorded inputs, ordered by update number.
+     * @param ticks         The number of recorded updates.
+     * @param checksum      The checksum of the play state folded over every recorded update.
+     */
+    private InputRecording(int levelNumber, List<ScriptedInput> inputs, long ticks, long checksum) {
+        this.levelNumber = levelNumber;
+        this.inputs = inputs;
+        this.ticks = ticks;
+        this.checksum = checksum;
+    }
+
+    /**
+     * read reads a recording file written by InputRecorder.
+     * @param file The path of the recording file.
+     * @return Returns the recorded InputRecording.
+     * @throws IOException If the file cannot be read, is not a recording or was not finished.
+     */
+    public static InputRecording read(Path file) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != InputRecorder.MAGIC) throw new IOException(file + " is not an input recording.");
+            byte version = input.readByte();
+            if (version != InputRecorder.VERSION) throw new IOException("Unsupported input recording version " + version + ".");
+            int levelNumber = input.readInt();
+
+            GameInputType[] types = GameInputType.values();
+            List<ScriptedInput> inputs = new ArrayList<>();
+            byte type;
+            while ((type = input.readByte()) != InputRecorder.END_MARKER) {
+                long tick = input.readInt();
+                switch (types[type]) {
+                    case KEY_PRESSED, KEY_RELEASED -> inputs.add(new ScriptedInput(tick, types[type], input.readShort(), 0, 0, 0));
+                    default -> inputs.add(new ScriptedInput(tick, types[type], 0, input.readByte(), input.readShort(), input.readShort()));
+                }
+            }
+            return new InputRecording(levelNumber, inputs, input.readLong(), input.readLong());
+        }
+    }
+
+    /**
+     * getLevelNumber fetches the level number the recorded session starts on.
+     * @return Returns the level number of the starting level.
+     */
+    public int getLevelNumber() {return levelNumber;}
+
+    /**
+     * getInputs fetches the recorded inputs.
+     * @return Returns the recorded inputs ordered by update number.
+     */
+    public List<ScriptedInput> getInputs() {return inputs;}
+
+    /**
+     * getTicks fetches the number of recorded updates.
+     * @return Returns the number of updates of the session.
+     */
+    public long getTicks() {return ticks;}
+
+    /**
+     * getChecksum fetches the checksum of the play state folded over every recorded update.
+     * @return Returns the checksum of the session.
+     */
+    public long getChecksum() {return checksum;}
+}
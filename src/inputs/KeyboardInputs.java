@@ -1,16 +1,16 @@
 package inputs;
 
-import gamestate.GameState;
 import main.GamePanel;
 
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 
+/**
+ * The KeyboardInputs class listens to the keyboard of the game panel and
+ * adds the key inputs to the input queue of the game, to be applied by the
+ * game thread at the start of the next update.
+ */
 public class KeyboardInputs implements KeyListener {
-    // ** TEMP
-    // DON'T ALTER COMPONENTS FROM THIS CLASS. ONLY SET VARIABLES, AND HAVE
-    // GETTERS FOR EACH VARIABLE TO BE USED IN update() from Game.java.
-    // **
     private final GamePanel gamePanel;
 
     public KeyboardInputs(GamePanel gamePanel) {
@@ -23,25 +23,11 @@ public class KeyboardInputs implements KeyListener {
 
     @Override
     public void keyPressed(KeyEvent e) {
-        switch(GameState.state) {
-            case MENU:
-                gamePanel.getGame().getMenuState().keyPressed(e);
-                break;
-            case PLAY:
-                gamePanel.getGame().getPlayingState().keyPressed(e);
-                break;
-        }
+        gamePanel.getGame().getInputQueue().offer(GameInputType.KEY_PRESSED, e.getKeyCode(), 0, 0, 0);
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
-        switch(GameState.state) {
-            case MENU:
-                gamePanel.getGame().getMenuState().keyReleased(e);
-                break;
-            case PLAY:
-                gamePanel.getGame().getPlayingState().keyReleased(e);
-                break;
-        }
+        gamePanel.getGame().getInputQueue().offer(GameInputType.KEY_RELEASED, e.getKeyCode(), 0, 0, 0);
     }
 }
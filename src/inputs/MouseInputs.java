@@ -1,12 +1,18 @@
 package inputs;
 
-import gamestate.GameState;
 import main.GamePanel;
+import render.ScreenScale;
 
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 
+/**
+ * The MouseInputs class listens to the mouse of the game panel and
+ * adds the mouse inputs to the input queue of the game, to be applied by
+ * the game thread at the start of the next update. The position of the mouse
+ * is mapped from the scaled frame in the panel to the game screen.
+ */
 public class MouseInputs implements MouseListener, MouseMotionListener {
 
     private final GamePanel gamePanel;
@@ -15,33 +21,17 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     }
     @Override
     public void mouseClicked(MouseEvent e) {
-        switch(GameState.state) {
-            case MENU:
-                gamePanel.getGame().getMenuState().mouseClicked(e);
-            case PLAY:
-                gamePanel.getGame().getPlayingState().mouseClicked(e);
-            case CREDITS:
-                gamePanel.getGame().getCreditsState().mouseClicked(e);
-        }
-
+        offer(GameInputType.MOUSE_CLICKED, e);
     }
 
     @Override
     public void mousePressed(MouseEvent e) {
-        switch(GameState.state) {
-            case PLAY:
-                gamePanel.getGame().getPlayingState().mousePressed(e);
-
-        }
-
+        offer(GameInputType.MOUSE_PRESSED, e);
     }
 
     @Override
     public void mouseReleased(MouseEvent e) {
-        switch(GameState.state) {
-            case PLAY:
-                gamePanel.getGame().getPlayingState().mouseReleased(e);
-        }
+        offer(GameInputType.MOUSE_RELEASED, e);
     }
 
     @Override
@@ -61,13 +51,16 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 
     @Override
     public void mouseMoved(MouseEvent e) {
-        switch(GameState.state) {
-            case MENU:
-                gamePanel.getGame().getMenuState().mouseMoved(e);
-            case PLAY:
-                gamePanel.getGame().getPlayingState().mouseMoved(e);
-            case CREDITS:
-                gamePanel.getGame().getCreditsState().mouseMoved(e);
-        }
+        offer(GameInputType.MOUSE_MOVED, e);
+    }
+
+    /**
+     * offer adds a mouse input to the input queue of the game.
+     * @param type  The kind of the input.
+     * @param e     A MouseEvent containing information about user mouse input.
+     */
+    private void offer(GameInputType type, MouseEvent e) {
+        ScreenScale screenScale = gamePanel.getScreenScale();
+        gamePanel.getGame().getInputQueue().offer(type, 0, e.getButton(), screenScale.toFrameX(e.getX()), screenScale.toFrameY(e.getY()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package inputs;
+
+/**
+ * ScriptedInput is a user input applied before a given update of a scripted or replayed game.
+ * @param tick      The number of the update the input is applied before.
+ * @param type      The kind of the input.
+ * @param keyCode   The key code of the keyboard key of a key input.
+ * @param button    The mouse button of a mouse input.
+ * @param x         The x-coordinate position of the mouse on the game screen.
+ * @param y         The y-coordinate position of the mouse on the game screen.
+ */
+public record ScriptedInput(long tick, GameInputType type, int keyCode, int button, int x, int y) {
+
+    /**
+     * offerTo adds the input to the given input queue.
+     * @param inputQueue The input queue of the game.
+     */
+    public void offerTo(InputQueue inputQueue) {
+        inputQueue.offer(type, keyCode, button, x, y);
+    }
+}
@@ -0,0 +1,158 @@
+package level;
+
+import tile.Tile;
+import tile.TileManager;
+
+/**
+ * The CollisionGrid class is the collision flags of every tile of a level,
+ * compiled once when the level is loaded into a flat array. Points and
+ * rectangles of the level are mapped to tiles with shifts, and the flags of
+ * a tile are tested with a single bit test. Everything outside the level
+ * has every flag.
+ */
+public class CollisionGrid {
+    /**The flags of the area outside the level.*/
+    private static final int OUT_OF_BOUNDS = Tile.SOLID | Tile.DAMAGE | Tile.DOOR;
+    /**The Tile.SOLID, Tile.DAMAGE and Tile.DOOR flags of every tile, row by row.*/
+    private final byte[] flags;
+    /**The width of the level in tiles.*/
+    private final int widthTiles;
+    /**The height of the level in tiles.*/
+    private final int heightTiles;
+    /**The width of the level in pixels.*/
+    private final int width;
+    /**The height of the level in pixels.*/
+    private final int height;
+    /**The size of a tile in pixels.*/
+    private final int tileSize;
+    /**The power of two of the tile size, shifting a pixel coordinate by it gives the tile index.*/
+    private final int tileShift;
+
+    /**
+     * CollisionGrid compiles the collision flags of the tiles of a level.
+     * @param levelData A 2D array containing the tile values of the level, with its rows representing the y-axis.
+     * @param tileSize  The size of a tile in pixels, which must be a power of two.
+     */
+    public CollisionGrid(int[][] levelData, int tileSize) {
+        if (Integer.bitCount(tileSize) != 1) throw new IllegalArgumentException("Tile size must be a power of two: " + tileSize);
+        this.heightTiles = levelData.length;
+        this.widthTiles = heightTiles == 0 ? 0 : levelData[0].length;
+        this.width = widthTiles * tileSize;
+        this.height = heightTiles * tileSize;
+        this.tileSize = tileSize;
+        this.tileShift = Integer.numberOfTrailingZeros(tileSize);
+        this.flags = new byte[widthTiles * heightTiles];
+        for (int row = 0; row < heightTiles; row++) {
+            for (int col = 0; col < widthTiles; col++) {
+                flags[row * widthTiles + col] = TileManager.getTileFlags(levelData[row][col]);
+            }
+        }
+    }
+
+    /**
+     * getFlags fetches the flags of the tile on a given point of the level.
+     * @param x The x-coordinate of the point in the level.
+     * @param y The y-coordinate of the point in the level.
+     * @return Returns the flags of the tile, or every flag if the point is outside the level.
+     */
+    public int getFlags(float x, float y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return OUT_OF_BOUNDS;
+        return flags[((int) y >> tileShift) * widthTiles + ((int) x >> tileShift)];
+    }
+
+    /**
+     * isTileFlagged determines if a tile of the level has any of the given flags.
+     * @param col   The column of the tile.
+     * @param row   The row of the tile.
+     * @param flag  The flags to test.
+     * @return Returns true if the tile has any of the flags, or if it is outside the level.
+     */
+    public boolean isTileFlagged(int col, int row, int flag) {
+        if (col < 0 || col >= widthTiles || row < 0 || row >= heightTiles) return (OUT_OF_BOUNDS & flag) != 0;
+        return (flags[row * widthTiles + col] & flag) != 0;
+    }
+
+    /**
+     * isFlagged determines if the tile on a given point of the level has any of the given flags.
+     * @param x     The x-coordinate of the point in the level.
+     * @param y     The y-coordinate of the point in the level.
+     * @param flag  The flags to test, combined from Tile.SOLID, Tile.DAMAGE and Tile.DOOR.
+     * @return Returns true if the tile has any of the flags.
+     */
+    public boolean isFlagged(float x, float y, int flag) {
+        return (getFlags(x, y) & flag) != 0;
+    }
+
+    /**
+     * isAnyCornerFlagged determines if the tile on any corner of a rectangle of the level has any of the given flags.
+     * @param left      The x-coordinate of the left edge of the rectangle.
+     * @param top       The y-coordinate of the top edge of the rectangle.
+     * @param right     The x-coordinate of the right edge of the rectangle.
+     * @param bottom    The y-coordinate of the bottom edge of the rectangle.
+     * @param flag      The flags to test.
+     * @return Returns true if any corner is on a flagged tile.
+     */
+    public boolean isAnyCornerFlagged(float left, float top, float right, float bottom, int flag) {
+        return ((getFlags(left, top) | getFlags(right, top) | getFlags(left, bottom) | getFlags(right, bottom)) & flag) != 0;
+    }
+
+    /**
+     * areAllCornersFlagged determines if the tiles on every corner of a rectangle of the level have any of the given flags.
+     * @param left      The x-coordinate of the left edge of the rectangle.
+     * @param top       The y-coordinate of the top edge of the rectangle.
+     * @param right     The x-coordinate of the right edge of the rectangle.
+     * @param bottom    The y-coordinate of the bottom edge of the rectangle.
+     * @param flag      The flags to test.
+     * @return Returns true if every corner is on a flagged tile.
+     */
+    public boolean areAllCornersFlagged(float left, float top, float right, float bottom, int flag) {
+        return isFlagged(left, top, flag) && isFlagged(right, top, flag) && isFlagged(left, bottom, flag) && isFlagged(right, bottom, flag);
+    }
+
+    /**
+     * isAnyTileFlagged determines if any tile overlapped by a rectangle of the level has any of the given flags.
+     * @param left      The x-coordinate of the left edge of the rectangle.
+     * @param top       The y-coordinate of the top edge of the rectangle.
+     * @param right     The x-coordinate of the right edge of the rectangle.
+     * @param bottom    The y-coordinate of the bottom edge of the rectangle.
+     * @param flag      The flags to test.
+     * @return Returns true if any overlapped tile is flagged, or if the rectangle reaches outside the level.
+     */
+    public boolean isAnyTileFlagged(float left, float top, float right, float bottom, int flag) {
+        if (left < 0 || right >= width || top < 0 || bottom >= height) return (OUT_OF_BOUNDS & flag) != 0;
+        int firstCol = (int) left >> tileShift;
+        int lastCol = (int) right >> tileShift;
+        int lastRow = (int) bottom >> tileShift;
+        for (int row = (int) top >> tileShift; row <= lastRow; row++) {
+            int rowStart = row * widthTiles;
+            for (int col = firstCol; col <= lastCol; col++) {
+                if ((flags[rowStart + col] & flag) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * getTileSize fetches the size of a tile of the level.
+     * @return Returns the size of a tile in pixels.
+     */
+    public int getTileSize() {return tileSize;}
+
+    /**
+     * getTileShift fetches the power of two of the tile size.
+     * @return Returns the number of bits a pixel coordinate is shifted by to give its tile index.
+     */
+    public int getTileShift() {return tileShift;}
+
+    /**
+     * getWidth fetches the width of the level.
+     * @return Returns the width of the level in pixels.
+     */
+    public int getWidth() {return width;}
+
+    /**
+     * getHeight fetches the height of the level.
+     * @return Returns the height of the level in pixels.
+     */
+    public int getHeight() {return height;}
+}
@@ -26,6 +26,8 @@ public class Level {
     private final int levelHeightTiles;
     /**Contains the respective tile data for each row,col-coordinate tile in the game.*/
     private int[][] levelData;
+    /**The collision flags of the tiles of the level, compiled from the level data.*/
+    private CollisionGrid collisionGrid;
     /**The x,y-coordinate spawn coordinate of the player.*/
     private Point playerCoordinate;
     /**The enemies in the level and their corresponding coordinates.*/
@@ -52,7 +54,8 @@ public class Level {
      * the level number, and parses its level image with its RGB values
      * which contain the level's associated tile value from the tile manager.
      * The data is stored in a 2D array, with its rows representing the
-     * y-axis and columns representing the x-axis.
+     * y-axis and columns representing the x-axis, and the collision flags
+     * of its tiles are compiled into the collision grid of the level.
      */
     public void setupLevelData() {
         // returned RED value DICTATES tile type.
@@ -132,6 +135,7 @@ public class Level {
 
             }
         }
+        collisionGrid = new CollisionGrid(levelData, game.getTileSize());
     }
 
     /**
@@ -143,6 +147,18 @@ public class Level {
         return levelData;
     }
 
+    /**
+     * getCollisionGrid fetches the collision flags of the tiles of the level.
+     * @return Returns the CollisionGrid of the level.
+     */
+    public CollisionGrid getCollisionGrid() {return collisionGrid;}
+
+    /**
+     * getTileSize fetches the size of the tiles of the level.
+     * @return Returns the size of a tile in pixels.
+     */
+    public int getTileSize() {return game.getTileSize();}
+
     /**
      * getLevelWidthTiles fetches the width of the level based on the
      *                      number of its tiles on the y-axis..
@@ -1,7 +1,7 @@
 package level;
 
 import main.Game;
-import tile.Tile;
+import render.Viewport;
 import tile.TileManager;
 
 import java.awt.*;
@@ -18,6 +18,14 @@ public class LevelManager {
     private final TileManager tileManager;
     /**Comprises the entire component of the game and manages its states.*/
     private final Game game;
+    /**The pre-rendered tile layer of the level last drawn. Only used by the render thread.*/
+    private TileLayerCache tileLayerCache;
+    /**The sum of the level draw times in nanoseconds since the last reset.*/
+    private long totalDrawTime;
+    /**The longest level draw time in nanoseconds since the last reset.*/
+    private long maxDrawTime;
+    /**The number of level draws since the last reset.*/
+    private int draws;
 
     /**
      * LevelManager | Initializes the LevelManager managing the levels displayed
@@ -31,29 +39,55 @@ public class LevelManager {
     }
 
     /**
-     * renderLevel | Displays the level on the game screen.
+     * renderLevel | Displays the level on the game screen from its pre-rendered tile layer,
+     * and records the time taken.
      * @param graphics The graphics object that draws images on the game screen.
-     * @param xOffset The x-value offset of the tiles on the game screen.
-     * @param yOffset The y-value offset of the tiles on the game screen.
+     * @param level The level to display, as captured at the end of the latest update.
+     * @param viewport The rectangle of the level visible on the game screen.
      */
-    public void renderLevel(Graphics graphics, double xOffset, double yOffset) {
-        int levelWidth = currentLevel.getLevelWidthTiles();
-        int levelHeight = currentLevel.getLevelHeightTiles();
-        Tile[] mapTiles = tileManager.getMapTilesMonochrome();
-        int [][] levelData = currentLevel.getLevelData();
-
-        for (int row = 0; row < levelHeight; row++) {
-            for (int col = 0; col < levelWidth; col++) {
-                int tileSize = game.getTileSize();
-                int x = (int) (game.getTileSize()*col-xOffset);
-                int y = (int) (game.getTileSize()*row-yOffset);
-                if (mapTiles[levelData[row][col]].isDoor()) {
-                    tileSize *= 1.5;
-                    y -= 16;
-                }
-                graphics.drawImage(mapTiles[levelData[row][col]].getImage(), x, y, tileSize, tileSize, null);
-            }
+    public void renderLevel(Graphics graphics, Level level, Viewport viewport) {
+        long drawStart = System.nanoTime();
+        if (tileLayerCache == null || tileLayerCache.getLevel() != level) {
+            tileLayerCache = new TileLayerCache(level, tileManager.getMapTilesMonochrome(), game.getTileSize(), game.getTileScale());
         }
+        tileLayerCache.render(graphics, viewport);
+        long drawTime = System.nanoTime() - drawStart;
+        totalDrawTime += drawTime;
+        if (drawTime > maxDrawTime) maxDrawTime = drawTime;
+        draws++;
+    }
+
+    /**
+     * getAverageDrawTime fetches the average time taken to draw the level since the last reset.
+     * @return Returns the average level draw time in microseconds.
+     */
+    public double getAverageDrawTime() {
+        return draws == 0 ? 0 : totalDrawTime / (draws * 1000.0);
+    }
+
+    /**
+     * getMaxDrawTime fetches the longest time taken to draw the level since the last reset.
+     * @return Returns the longest level draw time in microseconds.
+     */
+    public double getMaxDrawTime() {
+        return maxDrawTime / 1000.0;
+    }
+
+    /**
+     * resetDrawTimes clears the draw time statistics of the level.
+     */
+    public void resetDrawTimes() {
+        totalDrawTime = 0;
+        maxDrawTime = 0;
+        draws = 0;
+    }
+
+    /**
+     * loadLevel sets the current level of the game to the given level.
+     * @param levelNumber The level number of the level to load.
+     */
+    public void loadLevel(int levelNumber) {
+        currentLevel = new Level(game, levelNumber);
     }
 
     /**
@@ -0,0 +1,165 @@
+package level;
+
+import tile.Tile;
+
+/**
+ * The MovementResolver class moves an axis-aligned hit box through the solid
+ * tiles of a level. The hit box is swept along the x-axis and then along the
+ * y-axis, testing every tile its leading edge crosses, so a hit box cannot pass
+ * through a tile however tall or fast it is. The allowed displacement and the
+ * normals of the tiles it stopped against are kept until the next move, so one
+ * resolver is reused by an entity for all its moves.
+ * <p>
+ * The edges of the hit box are inclusive: a hit box whose right edge lies on
+ * the left edge of a tile overlaps that tile, and a hit box whose left edge lies
+ * on the right edge of a tile overlaps that tile. The sweep in every direction
+ * starts at the first tile the leading edge touches, so a tile the hit box
+ * already touches stops it.
+ */
+public class MovementResolver {
+    /**The distance in pixels left between a hit box and the tile it stops against, so it no longer overlaps the tile.*/
+    private static final float CONTACT_GAP = 0.01f;
+    /**The x-value displacement allowed by the last move.*/
+    private float deltaX;
+    /**The y-value displacement allowed by the last move.*/
+    private float deltaY;
+    /**The x-value normal of the tile the last move stopped against: 1 for a wall on the left, -1 for a wall on the right, or 0.*/
+    private int normalX;
+    /**The y-value normal of the tile the last move stopped against: -1 for a floor below, 1 for a ceiling above, or 0.*/
+    private int normalY;
+
+    /**
+     * resolve moves a hit box by the given displacement as far as the solid tiles of the level allow.
+     * @param collisionGrid The collision flags of the tiles of the level.
+     * @param left          The x-coordinate of the left edge of the hit box.
+     * @param top           The y-coordinate of the top edge of the hit box.
+     * @param width         The width of the hit box in pixels.
+     * @param height        The height of the hit box in pixels.
+     * @param dx            The x-value displacement of the move.
+     * @param dy            The y-value displacement of the move.
+     */
+    public void resolve(CollisionGrid collisionGrid, float left, float top, float width, float height, float dx, float dy) {
+        int tileSize = collisionGrid.getTileSize();
+        int tileShift = collisionGrid.getTileShift();
+        float right = left + width;
+        float bottom = top + height;
+        normalX = 0;
+        normalY = 0;
+
+        // Sweeps the leading vertical edge through every column it crosses.
+        int firstRow = toTile(top, tileShift);
+        int lastRow = toTile(bottom, tileShift);
+        if (dx > 0) {
+            int lastCol = toTile(right + dx, tileShift);
+            // A right edge lying on the left edge of a column already touches it, so the sweep starts at that column.
+            for (int col = toTile(right - CONTACT_GAP, tileShift) + 1; col <= lastCol; col++) {
+                if (isColumnSolid(collisionGrid, col, firstRow, lastRow)) {
+                    dx = Math.max(0, col * tileSize - CONTACT_GAP - right);
+                    normalX = -1;
+                    break;
+                }
+            }
+        } else if (dx < 0) {
+            int lastCol = toTile(left + dx, tileShift);
+            for (int col = toTile(left, tileShift) - 1; col >= lastCol; col--) {
+                if (isColumnSolid(collisionGrid, col, firstRow, lastRow)) {
+                    dx = Math.min(0, (col + 1) * tileSize - left);
+                    normalX = 1;
+                    break;
+                }
+            }
+        }
+        left += dx;
+        right += dx;
+
+        // Sweeps the leading horizontal edge through every row it crosses, at the moved x-coordinate.
+        int firstCol = toTile(left, tileShift);
+        int lastCol = toTile(right, tileShift);
+        if (dy > 0) {
+            int lastRowCrossed = toTile(bottom + dy, tileShift);
+            // A bottom edge lying on the top edge of a row already touches it, so the sweep starts at that row.
+            for (int row = toTile(bottom - CONTACT_GAP, tileShift) + 1; row <= lastRowCrossed; row++) {
+                if (isRowSolid(collisionGrid, row, firstCol, lastCol)) {
+                    dy = Math.max(0, row * tileSize - CONTACT_GAP - bottom);
+                    normalY = -1;
+                    break;
+                }
+            }
+        } else if (dy < 0) {
+            int lastRowCrossed = toTile(top + dy, tileShift);
+            for (int row = toTile(top, tileShift) - 1; row >= lastRowCrossed; row--) {
+                if (isRowSolid(collisionGrid, row, firstCol, lastCol)) {
+                    dy = Math.min(0, (row + 1) * tileSize - top);
+                    normalY = 1;
+                    break;
+                }
+            }
+        }
+        deltaX = dx;
+        deltaY = dy;
+    }
+
+    /**
+     * toTile maps a coordinate of the level to the index of the tile containing it.
+     * @param coordinate    The x or y-coordinate in the level.
+     * @param tileShift     The power of two of the tile size.
+     * @return Returns the column or row of the tile, which is negative left of or above the level.
+     */
+    private static int toTile(float coordinate, int tileShift) {
+        return (int) Math.floor(coordinate) >> tileShift;
+    }
+
+    /**
+     * isColumnSolid determines if any tile of a column within the given rows is solid.
+     * @param collisionGrid The collision flags of the tiles of the level.
+     * @param col           The column of the tiles.
+     * @param firstRow      The first row tested.
+     * @param lastRow       The last row tested.
+     * @return Returns true if any of the tiles is solid.
+     */
+    private static boolean isColumnSolid(CollisionGrid collisionGrid, int col, int firstRow, int lastRow) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            if (collisionGrid.isTileFlagged(col, row, Tile.SOLID)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * isRowSolid determines if any tile of a row within the given columns is solid.
+     * @param collisionGrid The collision flags of the tiles of the level.
+     * @param row           The row of the tiles.
+     * @param firstCol      The first column tested.
+     * @param lastCol       The last column tested.
+     * @return Returns true if any of the tiles is solid.
+     */
+    private static boolean isRowSolid(CollisionGrid collisionGrid, int row, int firstCol, int lastCol) {
+        for (int col = firstCol; col <= lastCol; col++) {
+            if (collisionGrid.isTileFlagged(col, row, Tile.SOLID)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * getDeltaX fetches the x-value displacement allowed by the last move.
+     * @return Returns the distance the hit box can move along the x-axis.
+     */
+    public float getDeltaX() {return deltaX;}
+
+    /**
+     * getDeltaY fetches the y-value displacement allowed by the last move.
+     * @return Returns the distance the hit box can move along the y-axis.
+     */
+    public float getDeltaY() {return deltaY;}
+
+    /**
+     * getNormalX fetches the x-value normal of the tile the last move stopped against.
+     * @return Returns 1 for a wall on the left, -1 for a wall on the right, or 0 if the move was not stopped along the x-axis.
+     */
+    public int getNormalX() {return normalX;}
+
+    /**
+     * getNormalY fetches the y-value normal of the tile the last move stopped against.
+     * @return Returns -1 for a floor below, 1 for a ceiling above, or 0 if the move was not stopped along the y-axis.
+     */
+    public int getNormalY() {return normalY;}
+}
@@ -0,0 +1,123 @@
+package level;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+/**
+ * The SpatialHash class is a uniform grid of cells laid over a level, in which
+ * hit boxes are registered by an id under every cell they overlap. An overlap
+ * query then only tests the hit boxes registered in the cells it overlaps,
+ * rather than every hit box of the level. Hit boxes reaching outside the level
+ * are registered in its border cells. The grid is cleared and filled again each
+ * update, and its arrays only grow, so a steady number of hit boxes allocates nothing.
+ */
+public class SpatialHash {
+    /**The value of a cell or an entry with no following entry.*/
+    private static final int NONE = -1;
+    /**The power of two of the cell size, shifting a pixel coordinate by it gives the cell index.*/
+    private final int cellShift;
+    /**The width of the grid in cells.*/
+    private final int columns;
+    /**The height of the grid in cells.*/
+    private final int rows;
+    /**The first entry registered in each cell, row by row, or NONE for an empty cell.*/
+    private final int[] cellHeads;
+    /**The entry registered before each entry in the same cell, or NONE.*/
+    private int[] entryNext = new int[64];
+    /**The id of the hit box of each entry.*/
+    private int[] entryIds = new int[64];
+    /**The number of entries in use.*/
+    private int entryCount;
+    /**The registered hit boxes, indexed by their id.*/
+    private Rectangle2D.Float[] hitBoxes = new Rectangle2D.Float[64];
+
+    /**
+     * SpatialHash initializes an empty grid covering a level.
+     * @param width     The width of the level in pixels.
+     * @param height    The height of the level in pixels.
+     * @param cellSize  The size of a cell in pixels, which must be a power of two.
+     */
+    public SpatialHash(int width, int height, int cellSize) {
+        if (Integer.bitCount(cellSize) != 1) throw new IllegalArgumentException("Cell size must be a power of two: " + cellSize);
+        this.cellShift = Integer.numberOfTrailingZeros(cellSize);
+        this.columns = Math.max(1, (width + cellSize - 1) >> cellShift);
+        this.rows = Math.max(1, (height + cellSize - 1) >> cellShift);
+        this.cellHeads = new int[columns * rows];
+        Arrays.fill(cellHeads, NONE);
+    }
+
+    /**
+     * clear removes every registered hit box from the grid.
+     */
+    public void clear() {
+        Arrays.fill(cellHeads, NONE);
+        Arrays.fill(hitBoxes, null);
+        entryCount = 0;
+    }
+
+    /**
+     * insert registers a hit box under every cell it overlaps. The hit box is kept
+     * by reference, so it must not move until the grid is cleared.
+     * @param id        The id of the hit box, such as its index in the list of its entity.
+     * @param hitBox    The hit box registered.
+     */
+    public void insert(int id, Rectangle2D.Float hitBox) {
+        if (id >= hitBoxes.length) hitBoxes = Arrays.copyOf(hitBoxes, Math.max(id + 1, hitBoxes.length * 2));
+        hitBoxes[id] = hitBox;
+        int firstCol = toColumn(hitBox.x);
+        int lastCol = toColumn(hitBox.x + hitBox.width);
+        int lastRow = toRow(hitBox.y + hitBox.height);
+        for (int row = toRow(hitBox.y); row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                if (entryCount == entryIds.length) {
+                    entryIds = Arrays.copyOf(entryIds, entryCount * 2);
+                    entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+                }
+                int cell = row * columns + col;
+                entryIds[entryCount] = id;
+                entryNext[entryCount] = cellHeads[cell];
+                cellHeads[cell] = entryCount++;
+            }
+        }
+    }
+
+    /**
+     * findFirstOverlap finds the registered hit box with the lowest id intersecting a given hit box,
+     * so the result matches testing the hit boxes one by one in the order of their ids.
+     * @param hitBox The hit box tested against the registered hit boxes.
+     * @return Returns the id of the first intersecting hit box, or -1 if none intersects it.
+     */
+    public int findFirstOverlap(Rectangle2D.Float hitBox) {
+        int firstId = NONE;
+        int firstCol = toColumn(hitBox.x);
+        int lastCol = toColumn(hitBox.x + hitBox.width);
+        int lastRow = toRow(hitBox.y + hitBox.height);
+        for (int row = toRow(hitBox.y); row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                for (int entry = cellHeads[row * columns + col]; entry != NONE; entry = entryNext[entry]) {
+                    int id = entryIds[entry];
+                    if ((firstId == NONE || id < firstId) && hitBoxes[id].intersects(hitBox)) firstId = id;
+                }
+            }
+        }
+        return firstId;
+    }
+
+    /**
+     * toColumn maps an x-coordinate of the level to the column of the cell containing it.
+     * @param x The x-coordinate in the level.
+     * @return Returns the column of the cell, clamped to the border columns outside the level.
+     */
+    private int toColumn(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x) >> cellShift));
+    }
+
+    /**
+     * toRow maps a y-coordinate of the level to the row of the cell containing it.
+     * @param y The y-coordinate in the level.
+     * @return Returns the row of the cell, clamped to the border rows outside the level.
+     */
+    private int toRow(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y) >> cellShift));
+    }
+}
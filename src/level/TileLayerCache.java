@@ -0,0 +1,118 @@
+package level;
+
+import render.Viewport;
+import tile.Tile;
+import utility.ImageUtils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The TileLayerCache class holds the static tile layer of a level pre-rendered
+ * at the resolution of the native art into square chunk images. Chunks are rendered the first time
+ * they come into view, so each frame only blits the chunks overlapping the screen, scaled up to
+ * display scale as they are drawn. Through the scale of the panel, each tile is scaled once from
+ * its native art to the window. Chunks are opaque over the black background of the level, as
+ * Java2D scales opaque images with a native loop that neither blends nor allocates.
+ */
+class TileLayerCache {
+    /**The number of tiles along each side of a chunk.*/
+    static final int CHUNK_TILES = 8;
+    /**The level whose tile layer is cached.*/
+    private final Level level;
+    /**The tiles used to render the level.*/
+    private final Tile[] mapTiles;
+    /**The size of tiles displayed in the game.*/
+    private final int tileSize;
+    /**The size in level pixels of each side of a chunk.*/
+    private final int chunkSize;
+    /**The number of level pixels covered by one pixel of the native art of the tiles.*/
+    private final int tileScale;
+    /**The rendered chunk images, indexed by chunk row and column. A chunk is null until it is first drawn.*/
+    private final BufferedImage[][] chunks;
+
+    /**
+     * TileLayerCache creates an empty tile layer cache of the given level.
+     * @param level       The level whose tile layer is cached.
+     * @param mapTiles    The tiles used to render the level.
+     * @param tileSize    The size of tiles displayed in the game.
+     * @param tileScale   The number of level pixels covered by one pixel of the native art of the tiles.
+     */
+    TileLayerCache(Level level, Tile[] mapTiles, int tileSize, int tileScale) {
+        this.level = level;
+        this.mapTiles = mapTiles;
+        this.tileSize = tileSize;
+        this.tileScale = tileScale;
+        this.chunkSize = CHUNK_TILES * tileSize;
+        int chunkRows = (level.getLevelHeightTiles() + CHUNK_TILES - 1) / CHUNK_TILES;
+        int chunkCols = (level.getLevelWidthTiles() + CHUNK_TILES - 1) / CHUNK_TILES;
+        this.chunks = new BufferedImage[chunkRows][chunkCols];
+    }
+
+    /**
+     * render blits the chunks overlapping the viewport.
+     * @param graphics  The graphics object that draws images on the game screen.
+     * @param viewport  The rectangle of the level visible on the game screen.
+     */
+    void render(Graphics graphics, Viewport viewport) {
+        for (int row = 0; row < chunks.length; row++) {
+            for (int col = 0; col < chunks[row].length; col++) {
+                if (!viewport.isVisible(col*chunkSize, row*chunkSize, chunkSize, chunkSize)) continue;
+                if (chunks[row][col] == null) chunks[row][col] = renderChunk(row, col);
+                graphics.drawImage(chunks[row][col], (int) Math.floor(col*chunkSize - viewport.getX()), (int) Math.floor(row*chunkSize - viewport.getY()),
+                        chunkSize, chunkSize, null);
+            }
+        }
+    }
+
+    /**
+     * renderChunk renders the tiles of a chunk at the resolution of the native art. Door tiles are drawn
+     * enlarged and raised, reaching into the neighbouring chunks, so the tiles one chunk
+     * around are drawn as well and clipped, in the same order as a full level draw. A door is
+     * enlarged by a non-integer factor of its native art, so the chunks it reaches are rendered
+     * at display scale instead.
+     * @param chunkRow The row of the chunk.
+     * @param chunkCol The column of the chunk.
+     * @return Returns the rendered chunk image.
+     */
+    private BufferedImage renderChunk(int chunkRow, int chunkCol) {
+        int[][] levelData = level.getLevelData();
+        int firstRow = Math.max(0, chunkRow*CHUNK_TILES - 1);
+        int lastRow = Math.min(level.getLevelHeightTiles() - 1, (chunkRow+1)*CHUNK_TILES);
+        int firstCol = Math.max(0, chunkCol*CHUNK_TILES - 1);
+        int lastCol = Math.min(level.getLevelWidthTiles() - 1, (chunkCol+1)*CHUNK_TILES);
+        int chunkScale = tileScale;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                if (mapTiles[levelData[row][col]].isDoor()) chunkScale = 1;
+            }
+        }
+        int chunkTileSize = tileSize / chunkScale;
+        int chunkImageSize = chunkSize / chunkScale;
+        BufferedImage chunk = ImageUtils.createCompatibleImage(chunkImageSize, chunkImageSize, Transparency.OPAQUE);
+        Graphics2D graphics = chunk.createGraphics();
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(0, 0, chunkImageSize, chunkImageSize);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                Tile tile = mapTiles[levelData[row][col]];
+                int size = chunkTileSize;
+                int x = chunkTileSize*col - chunkCol*chunkImageSize;
+                int y = chunkTileSize*row - chunkRow*chunkImageSize;
+                if (tile.isDoor()) {
+                    size *= 1.5;
+                    y -= 16 / chunkScale;
+                }
+                graphics.drawImage(tile.getImage(), x, y, size, size, null);
+            }
+        }
+        graphics.dispose();
+        return chunk;
+    }
+
+    /**
+     * getLevel fetches the level whose tile layer is cached.
+     * @return Returns the cached Level.
+     */
+    Level getLevel() {return level;}
+}
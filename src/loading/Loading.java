@@ -17,18 +17,28 @@ public class Loading {
     private final Game game;
     /**The loading text to be displayed on the game screen.*/
     private final String loadingText;
+    /**The font of the loading text.*/
+    private final Font font = Atlas.getFont(Atlas.ROBUS_FONT, Font.PLAIN, 100);
+    /**The yellow colors of the blinking loading text, indexed by alpha value and created on first use.*/
+    private static final Color[] YELLOW_COLORS = new Color[256];
+    /**The magenta colors of the blinking loading text, indexed by alpha value and created on first use.*/
+    private static final Color[] MAGENTA_COLORS = new Color[256];
+    /**The x-coordinate position of the loading text on the game screen, measured on the first render.*/
+    private int xText;
+    /**The y-coordinate position of the loading text on the game screen, measured on the first render.*/
+    private int yText;
+    /**Determines if the position of the loading text on the game screen has been measured.*/
+    private boolean isTextPlaced;
     /**Counter used to create blinking effect on loading text.*/
     private float blinkingCounter;
     /**The alpha value of the loading text, altered during start and end phase of loading phase.*/
     private double alphaValue;
     /**The x-coordinate position of the loading text at the designated x-axis position of the loading text*/
-    private int xLoadingPosition;
+    private final int xLoadingPosition;
     /**The y-coordinate position of the loading text at the designated y-axis position  of the loading text.*/
-    private int yLoadingPosition;
-    /**Determines if the values of xLoadingPosition and yLoadingPosition are set.*/
-    private boolean isPositionSet;
-    /**The starting time of when the class Loading is initialized.*/
-    private final long loadingInitTime;
+    private final int yLoadingPosition;
+    /**The number of updates since the class Loading is initialized.*/
+    private long loadingUpdates;
     /**The x-axis offset speed in transitioning from the initial loading screen placement to its destination on the level. */
     private double xOffsetSpeed;
     /**The y-axis offset speed in transitioning from the initial loading screen placement to its destination on the level. */
@@ -54,43 +64,47 @@ public class Loading {
             case 10 -> numToText = "Ten";
         }
         loadingText = "Level " + numToText;
-        loadingInitTime = game.getGameTime();
+        Dimension levelDimension = level.getLevelDimension();
+        xLoadingPosition = levelDimension.width/2 - game.getScreenWidth()/2;
+        yLoadingPosition = levelDimension.height/2 - game.getScreenHeight()/2;
         LoadingPhase.phase = LoadingPhase.START;
     }
 
     /**
      * renderLoading | Displays the loading text on the game screen.
      * @param graphics The graphics object that draws state components on the game screen.
-     * @param levelDimension The dimension of the current level of the game.
+     * @param alphaValue The alpha value of the loading text captured at the end of the latest update.
      */
-    public void renderLoading(Graphics graphics, Dimension levelDimension) {
+    public void renderLoading(Graphics graphics, int alphaValue) {
         blinkingCounter += 0.5;
         if (blinkingCounter > 5) blinkingCounter = 0;
-        Font font = Atlas.getFont(Atlas.ROBUS_FONT).deriveFont(Font.PLAIN, 100);
-        Color color = blinkingCounter < 2.5 ? new Color(255, 255, 0, (int) alphaValue) : new Color(255, 0, 255, (int) alphaValue);
-        int x = getLoadingTextCenterXPosition(loadingText, font, graphics, game.getScreenWidth());
-        int y = getLoadingTextCenterYPosition(loadingText, font, graphics, game.getScreenHeight());
+        if (!isTextPlaced) {
+            xText = getLoadingTextCenterXPosition(loadingText, font, graphics, game.getScreenWidth());
+            yText = getLoadingTextCenterYPosition(loadingText, font, graphics, game.getScreenHeight());
+            isTextPlaced = true;
+        }
+        int alpha = Math.min(Math.max(alphaValue, 0), 255);
+        Color color;
+        if (blinkingCounter < 2.5) {
+            if (YELLOW_COLORS[alpha] == null) YELLOW_COLORS[alpha] = new Color(255, 255, 0, alpha);
+            color = YELLOW_COLORS[alpha];
+        } else {
+            if (MAGENTA_COLORS[alpha] == null) MAGENTA_COLORS[alpha] = new Color(255, 0, 255, alpha);
+            color = MAGENTA_COLORS[alpha];
+        }
         graphics.setFont(font);
         graphics.setColor(color);
-        graphics.drawString(loadingText, x, y);
-        /*
-        * Sets up xLoadingPosition and yLoadingPosition if the position hasn't been set yet.
-        * This is on renderLoading because graphics is required for setting up, which is not
-        * available at the constructor.
-        * */
-        if(!isPositionSet) {
-            xLoadingPosition = levelDimension.width/2 - game.getScreenWidth()/2;
-            yLoadingPosition = levelDimension.height/2 - game.getScreenHeight()/2;
-            isPositionSet = true;
-        }
+        graphics.drawString(loadingText, xText, yText);
     }
 
     /**
-     * updateLoadingPhase | Updates the current LoadingPhase.
-     * @param currentTime The current time since the initialization of Loading in nanoseconds.
+     * updateLoadingPhase | Updates the current LoadingPhase. The time since the initialization
+     * of Loading is counted in updates rather than read from the clock, so a replayed game
+     * goes through the same phases on the same updates.
      */
-    public void updateLoadingPhase(double currentTime) {
-        double timeDifference = (currentTime - loadingInitTime) / 1000000000.0;
+    public void updateLoadingPhase() {
+        loadingUpdates++;
+        double timeDifference = loadingUpdates / (double) game.getTargetUpdates();
         if (timeDifference < 2) {
             LoadingPhase.phase = LoadingPhase.START;
         } else if (timeDifference <= 8) {
@@ -107,7 +121,7 @@ public class Loading {
      * @param transitionToOpacity The condition for if the text is transitioning to opacity.
      */
     public void updateAlphaValue(boolean transitionToOpacity) {
-        double time = transitionToOpacity ? 3 * game.getCurrentUpdates() : 2 * game.getCurrentUpdates(); // UPS of game x duration in second
+        double time = transitionToOpacity ? 3 * game.getTargetUpdates() : 2 * game.getTargetUpdates(); // UPS of game x duration in second
         double speed = (255) / time;
         alphaValue += transitionToOpacity ? -speed : speed;
         if (alphaValue < 0) alphaValue = 0;
@@ -127,8 +141,8 @@ public class Loading {
         double deltaY = endY - startY;
         double direction = Math.atan2(deltaY, deltaX);
 
-        xOffsetSpeed = (Math.abs(deltaX) / game.getCurrentUpdates()*.3) * Math.cos(direction);
-        yOffsetSpeed = (Math.abs(deltaY) / game.getCurrentUpdates()*.3) * Math.sin(direction);
+        xOffsetSpeed = (Math.abs(deltaX) / game.getTargetUpdates()*.3) * Math.cos(direction);
+        yOffsetSpeed = (Math.abs(deltaY) / game.getTargetUpdates()*.3) * Math.sin(direction);
 
         System.out.println("xOffsetSpeed : " + xOffsetSpeed + " yOffsetSpeed : " + yOffsetSpeed);
     }
@@ -145,6 +159,12 @@ public class Loading {
      */
     public int getyLoadingPosition() {return yLoadingPosition;}
 
+    /**
+     * getAlphaValue | Fetches the alpha value of the loading text.
+     * @return Returns the alpha value of the loading text.
+     */
+    public int getAlphaValue() {return (int) alphaValue;}
+
     /**
      * getxOffsetSpeed | Fetches the x-axis offset speed of the initial loading screen to the destination.
      * @return Returns the x-axis offset speed from the initial loading screen placement to the destination.
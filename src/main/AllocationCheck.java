@@ -0,0 +1,118 @@
+package main;
+
+import entity.AirEnemy;
+import entity.Enemy;
+import entity.EnemyManager;
+import entity.Player;
+import gamestate.GameState;
+import inputs.GameInputType;
+import level.Level;
+import loading.LoadingPhase;
+
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+
+/**
+ * The AllocationCheck class measures the heap allocated by the game thread per update and
+ * by the render thread per frame, once the play state has settled, and fails if either
+ * exceeds its threshold. It also measures the enemy AI alone, with every enemy of the level
+ * awake, which must allocate nothing at all. It guards the allocation-free update and render
+ * paths against regressions, and runs without a window like the HeadlessRunner.
+ * <p>
+ * Usage: {@code AllocationCheck [level] [maxBytesPerUpdate] [maxBytesPerFrame]}
+ * <p>
+ * The player walks right from the spawn point, so the measured updates include movement,
+ * collision and the enemies of the level. Frames are measured during play and with the
+ * pause overlay shown. Exits with status 3 if a threshold is exceeded or an enemy update allocates.
+ */
+public class AllocationCheck {
+    /**The number of updates and frames run before measuring, letting the loading finish and the JIT compile the hot paths.*/
+    private static final int WARM_UP_COUNT = 20000;
+    /**The number of updates and frames measured.*/
+    private static final int MEASURED_COUNT = 5000;
+    /**
+     * The default largest number of bytes one update or frame may allocate on average. Any object allocated
+     * on every step takes at least 16 bytes, so an average below one byte only admits rare one-off
+     * allocations, such as removing a dead enemy from its list.
+     */
+    private static final long DEFAULT_MAX_BYTES = 1;
+    /**Reads the number of bytes allocated by the current thread.*/
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * measure runs a step of the game repeatedly, first to warm it up and then to count the bytes it allocates.
+     * @param step The step of the game to measure.
+     * @return Returns the average number of bytes allocated by one step.
+     */
+    private static double measure(Runnable step) {
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            step.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_COUNT; i++) {
+            step.run();
+        }
+        long allocatedAfter = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        return (double) (allocatedAfter - allocatedBefore) / MEASURED_COUNT;
+    }
+
+    /**
+     * measureEnemies measures the enemy AI of a level on its own. The activity zone covers the whole level,
+     * so every enemy is awake, and a player is placed beside the first air enemy so the enemies near it chase
+     * and attack. The player is not updated, so it stays invulnerable after its first hit and no enemy dies.
+     * @param level         The level the enemies are set up from.
+     * @param entityScale   The scale of the player.
+     * @return Returns the average number of bytes allocated by one update of the enemies.
+     */
+    private static double measureEnemies(Level level, float entityScale) {
+        EnemyManager enemyManager = new EnemyManager(level);
+        Dimension levelDimension = level.getLevelDimension();
+        enemyManager.updateActivityZone(0, 0, levelDimension.width, levelDimension.height);
+        Point playerCoordinate = level.getPlayerCoordinate();
+        for (Enemy enemy : enemyManager.getEnemyList()) {
+            if (enemy instanceof AirEnemy) {
+                playerCoordinate = new Point((int) enemy.getEntityCoordinate().x + 30, (int) enemy.getEntityCoordinate().y + 30);
+                break;
+            }
+        }
+        Player player = new Player(playerCoordinate.x, playerCoordinate.y, 36, 23, entityScale, 1, 4);
+        player.updateEntity(level);
+        return measure(() -> enemyManager.updateEnemies(level, player));
+    }
+
+    public static void main(String[] args) {
+        if (!THREAD_MX_BEAN.isThreadAllocatedMemorySupported()) {
+            System.err.println("Allocation counters are not supported by this JVM.");
+            System.exit(1);
+        }
+        THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        int levelNumber = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        long maxBytesPerUpdate = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_MAX_BYTES;
+        long maxBytesPerFrame = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_MAX_BYTES;
+
+        System.setProperty("java.awt.headless", "true");
+        Game game = new Game(true);
+        game.getPlayingState().loadLevel(levelNumber);
+        GameState.state = GameState.PLAY;
+        LoadingPhase.phase = LoadingPhase.INIT;
+        game.getInputQueue().offer(GameInputType.KEY_PRESSED, KeyEvent.VK_ENTER, 0, 0, 0);
+        game.getInputQueue().offer(GameInputType.KEY_PRESSED, KeyEvent.VK_D, 0, 0, 0);
+
+        double bytesPerEnemyUpdate = measureEnemies(game.getPlayingState().getLevelManager().getCurrentLevel(), game.getEntityScale());
+        double bytesPerUpdate = measure(game::simulateUpdate);
+        BufferedImage frame = new BufferedImage(game.getScreenWidth(), game.getScreenHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D frameGraphics = frame.createGraphics();
+        double bytesPerFrame = measure(() -> game.simulateFrame(frameGraphics));
+        game.getPlayingState().setIsPaused(true);
+        double bytesPerPausedFrame = measure(() -> game.simulateFrame(frameGraphics));
+        frameGraphics.dispose();
+
+        boolean isPassing = bytesPerEnemyUpdate == 0 && bytesPerUpdate <= maxBytesPerUpdate && Math.max(bytesPerFrame, bytesPerPausedFrame) <= maxBytesPerFrame;
+        System.out.printf("Level %d | Bytes per enemy update: %.2f (max 0) | Bytes per update: %.2f (max %d) | Bytes per frame: %.2f, paused %.2f (max %d) | %s%n",
+                levelNumber, bytesPerEnemyUpdate, bytesPerUpdate, maxBytesPerUpdate, bytesPerFrame, bytesPerPausedFrame, maxBytesPerFrame, isPassing ? "PASSED" : "FAILED");
+        System.exit(isPassing ? 0 : 3);
+    }
+}
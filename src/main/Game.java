@@ -4,9 +4,21 @@ import gamestate.CreditsState;
 import gamestate.GameState;
 import gamestate.MenuState;
 import gamestate.PlayState;
+import gamestate.StateMethods;
+import inputs.GameInput;
+import inputs.InputQueue;
+import inputs.InputRecorder;
+import level.LevelManager;
 import loading.LoadingPhase;
+import render.FrameSnapshot;
+import render.SnapshotBuffer;
+import utility.ImageUtils;
 
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 /**
  * The Game class is the class containing the different states of the
@@ -31,24 +43,78 @@ public class Game implements Runnable{
     protected final float ENTITY_SCALE = 2.0f;
     /**The pre-determined size of tiles displayed in the game.*/
     protected final int TILE_SIZE = BIT_SIZE * TILE_SCALE; // 32 x 32 tile size
-    /**The state containing the state and behavior for the play state of the game.*/
-    private PlayState playState;
+    /**
+     * The state containing the state and behavior for the play state of the game. Replaced by the game
+     * thread when a new game starts, and read by the render thread, so the new state is seen in full.
+     */
+    private volatile PlayState playState;
     /**The state containing the state and behavior for the menu state of the game.*/
     private MenuState menuState;
     /**The state containing the state and behavior for the credits state of the game.*/
     private CreditsState creditsState;
-    /**Stores the current time of the game in nanoseconds.*/
-    private long gameTime;
-    private int currentUpdates;
+    /**The targeted number of updates per second of the game loop.*/
+    protected final int TARGET_UPS = 200;
+    /**The targeted number of frames per second of the render loop.*/
+    protected final int TARGET_FPS = 120;
+    /**The number of frames per second of the render loop while no state is animating.*/
+    protected final int IDLE_FPS = 10;
+    /**Parks the game thread between the updates of the game loop.*/
+    private final LoopScheduler loopScheduler = new LoopScheduler();
+    /**The timing measurements of the game loop.*/
+    private final LoopMetrics loopMetrics = new LoopMetrics();
+    /**The maximum number of owed updates run in a single pass of the game loop before the rest are dropped.*/
+    private volatile int maxUpdatesPerLoop = 10;
+    /**The user inputs waiting to be applied at the start of the next update.*/
+    private final InputQueue inputQueue = new InputQueue(256);
+    /**The sum of the time in nanoseconds between receiving and applying each input since the last check.*/
+    private long totalInputLatency;
+    /**The longest time in nanoseconds between receiving and applying an input since the last check.*/
+    private long maxInputLatency;
+    /**The number of inputs applied since the last check.*/
+    private int appliedInputs;
+    /**Hands the frame snapshots captured by the game thread to the render thread.*/
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+    /**The frame snapshot being drawn by the render thread.*/
+    private FrameSnapshot renderSnapshot;
+    /**The fraction of the current update elapsed when the frame being drawn was started.*/
+    private float renderAlpha;
+    /**The state drawn in the last frame, used by the render thread to draw a state switched to in full.*/
+    private GameState renderedState;
+    /**The thread running the render loop, or null if the game is headless.*/
+    private Thread renderThread;
+    /**The condition determining if the render loop must draw a frame before its idle frame is due.*/
+    private volatile boolean isRedrawRequested;
+    /**The condition determining if an input was applied since the last snapshot was published. Used by the game thread only.*/
+    private boolean isRedrawOwed;
+    /**The path of the file the first play session is recorded to, set by the robotoscape.record property, or null if not recording.*/
+    private final String recordingFile = System.getProperty("robotoscape.record");
+    /**Records the inputs applied to the first play session, or null if the session has not started.*/
+    private InputRecorder inputRecorder;
 
     /**
      * Game | Comprises the entire component of the game and manages its states.
      */
     public Game () {
+        this(false);
+    }
+
+    /**
+     * Game | Comprises the entire component of the game and manages its states.
+     * @param isHeadless The condition determining if the game runs without a window. A headless
+     *                   game starts no threads and is stepped by calling simulateUpdate.
+     */
+    public Game(boolean isHeadless) {
         initStates();
+        publishSnapshot();
+        if (isHeadless) {
+            gamePanel = null;
+            return;
+        }
         gamePanel = new GamePanel(this);
         new GameWindow(gamePanel);
+        System.out.println(ImageUtils.getPreparationReport());
         startGameLoop();
+        startRenderLoop();
     }
 
     /**
@@ -72,42 +138,175 @@ public class Game implements Runnable{
      * start of the game.
      */
     private void startGameLoop() {
-        Thread gameThread = new Thread(this);
+        Thread gameThread = new Thread(this, "game");
         gameThread.start();
     }
 
     /**
-     * renderGame | Renders the components of the current state of the game.
+     * startRenderLoop | Starts the thread rendering the frames of the game.
+     */
+    private void startRenderLoop() {
+        renderThread = new Thread(this::runRenderLoop, "render");
+        renderThread.start();
+    }
+
+    /**
+     * renderGame | Renders the components of the latest published state of the game.
+     * Called by the render thread.
      * @param graphics The graphics object that draws images on the game screen.
      */
     public void renderGame(Graphics graphics) {
-        switch (GameState.state) {
+        renderSnapshot = snapshotBuffer.getFront();
+        double timePerUpdate = 1000000000.0 / TARGET_UPS;
+        renderAlpha = (float) Math.min((System.nanoTime() - renderSnapshot.getPublishTime()) / timePerUpdate, 1.0);
+        if (renderSnapshot.getState() != renderedState) {
+            // A state switched to is drawn in full once, then only where its content changes.
+            renderedState = renderSnapshot.getState();
+            menuState.invalidate();
+            creditsState.invalidate();
+        }
+        switch (renderSnapshot.getState()) {
             case MENU -> menuState.render(graphics);
-            case PLAY -> {
-                if (LoadingPhase.phase == LoadingPhase.INIT) {
-                    playState.initLoading();
-                }
-                playState.render(graphics);
-            }
+            case PLAY -> playState.render(graphics);
             case CREDITS -> creditsState.render(graphics);
             default -> {
             }
         }
     }
 
+    /**
+     * isRenderAnimating | Determines if the state drawn in the last frame changes from frame to frame.
+     * Called by the render thread.
+     * @return Returns true if the render loop must run at the target frame rate.
+     */
+    private boolean isRenderAnimating() {
+        return switch (renderSnapshot.getState()) {
+            case MENU -> menuState.isAnimating();
+            case PLAY -> playState.isAnimating();
+            case CREDITS -> creditsState.isAnimating();
+        };
+    }
+
+    /**
+     * requestRedraw | Wakes the render loop from its idle frame rate to draw the latest published snapshot.
+     */
+    private void requestRedraw() {
+        isRedrawRequested = true;
+        if (renderThread != null) LockSupport.unpark(renderThread);
+    }
+
     /**
      * updateGame | Updates the states of the game.
      */
     public void updateGame(){
+        applyInputs();
         switch (GameState.state) {
             case MENU -> menuState.update();
             case PLAY -> {
                 if (LoadingPhase.phase == LoadingPhase.INIT) {
+                    startRecording();
                     playState.initLoading();
                 }
                 if (!playState.isPaused()) playState.update();
             }
         }
+        if (inputRecorder != null && !inputRecorder.isFinished()) {
+            inputRecorder.endUpdate(playState.computeChecksum());
+            if (GameState.state != GameState.PLAY) inputRecorder.finish();
+        }
+    }
+
+    /**
+     * startRecording | Starts recording the play session to the file set by the robotoscape.record
+     * property, if it is set and no session has been recorded yet.
+     */
+    private void startRecording() {
+        if (recordingFile == null || inputRecorder != null) return;
+        try {
+            inputRecorder = new InputRecorder(Path.of(recordingFile), playState.getLevelNumber());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        // Closes the recording if the game is quit during the session.
+        Runtime.getRuntime().addShutdownHook(new Thread(inputRecorder::finish));
+    }
+
+    /**
+     * applyInputs | Applies the user inputs waiting in the input queue to the current
+     * state of the game, in the order they were received.
+     */
+    private void applyInputs() {
+        GameInput input;
+        while ((input = inputQueue.peek()) != null) {
+            long inputLatency = System.nanoTime() - input.getTimestamp();
+            totalInputLatency += inputLatency;
+            if (inputLatency > maxInputLatency) maxInputLatency = inputLatency;
+            appliedInputs++;
+            applyInput(input);
+            inputQueue.remove();
+        }
+    }
+
+    /**
+     * applyInput | Applies a single user input to the current state of the game.
+     * @param input The user input to apply.
+     */
+    private void applyInput(GameInput input) {
+        StateMethods state = switch (GameState.state) {
+            case MENU -> menuState;
+            case PLAY -> playState;
+            case CREDITS -> creditsState;
+        };
+        switch (input.getType()) {
+            case KEY_PRESSED -> state.keyPressed(input);
+            case KEY_RELEASED -> state.keyReleased(input);
+            case MOUSE_CLICKED -> state.mouseClicked(input);
+            case MOUSE_PRESSED -> state.mousePressed(input);
+            case MOUSE_RELEASED -> state.mouseReleased(input);
+            case MOUSE_MOVED -> state.mouseMoved(input);
+        }
+        isRedrawOwed = true;
+        if (GameState.state == GameState.PLAY) {
+            startRecording();
+            if (inputRecorder != null) inputRecorder.record(input);
+        }
+    }
+
+    /**
+     * simulateUpdate | Runs one update without waiting for the update to be due.
+     * Used to step a headless game.
+     */
+    public void simulateUpdate() {
+        updateGame();
+    }
+
+    /**
+     * simulateFrame | Publishes the latest update and renders it, as the render thread would.
+     * Used to measure the render path of a headless game.
+     * @param graphics The graphics object that draws images on the frame.
+     */
+    public void simulateFrame(Graphics graphics) {
+        publishSnapshot();
+        renderGame(graphics);
+    }
+
+    /**
+     * publishSnapshot | Captures the drawable state of the game at the end of the
+     * latest update and hands it to the render thread.
+     */
+    private void publishSnapshot() {
+        FrameSnapshot snapshot = snapshotBuffer.getBack();
+        snapshot.setState(GameState.state);
+        if (GameState.state == GameState.PLAY) {
+            playState.captureSnapshot(snapshot);
+        }
+        snapshot.setPublishTime(System.nanoTime());
+        snapshotBuffer.publish();
+        // The input may have changed what a static screen shows, so an idle render loop is woken once it is published.
+        if (isRedrawOwed) {
+            isRedrawOwed = false;
+            requestRedraw();
+        }
     }
 
     /**
@@ -118,62 +317,152 @@ public class Game implements Runnable{
     }
 
     /**
-     * run | Initiates the game loop of the game and tracks the frames
-     * and updates made per second.
+     * run | Initiates the game loop of the game and tracks the updates
+     * made per second.
      */
     @Override
     public void run() {
-        int FPS = 120;
-        double timePerFrame = 1000000000.0 / FPS;
-        int UPS = 200;
-        double timePerUpdate = 1000000000.0 / UPS;
+        double timePerUpdate = 1000000000.0 / TARGET_UPS;
 
         long previousTime = System.nanoTime();
 
-        int frames = 0;
         int updates = 0;
         long lastCheck = System.currentTimeMillis();
 
         double deltaU = 0;
-        double deltaF = 0;
 
         //noinspection InfiniteLoopStatement
         while (true) {
             long currentTime = System.nanoTime();
-            gameTime = System.nanoTime();
 
             deltaU += (currentTime - previousTime) / timePerUpdate;
-            deltaF += (currentTime - previousTime) / timePerFrame;
             previousTime = currentTime;
 
-            if (deltaU >= 1) {
+            // Runs every owed update up to maxUpdatesPerLoop, then drops the rest so the game cannot spiral behind.
+            int steps = 0;
+            while (deltaU >= 1 && steps < maxUpdatesPerLoop) {
                 updateGame();
                 updates++;
+                steps++;
                 deltaU--;
             }
+            if (steps > 0) publishSnapshot();
+            if (deltaU >= 1) {
+                long droppedUpdates = (long) deltaU;
+                loopMetrics.addDroppedUpdates(droppedUpdates);
+                deltaU -= droppedUpdates;
+            }
 
-            if (deltaF >= 1) {
-                gamePanel.repaint();
-                frames++;
-                deltaF--;
+            if (System.currentTimeMillis() - lastCheck >= 1000) {
+                lastCheck = System.currentTimeMillis();
+                loopMetrics.recordUpdates(updates, loopScheduler.getAverageJitter(), loopScheduler.getMaxJitter());
+                loopMetrics.recordInputLatency(appliedInputs == 0 ? 0 : totalInputLatency / (appliedInputs * 1000.0), maxInputLatency / 1000.0);
+                System.out.println(loopMetrics);
+                totalInputLatency = 0;
+                maxInputLatency = 0;
+                appliedInputs = 0;
+                updates = 0;
+                loopScheduler.resetJitter();
             }
 
+            // Parks the thread until the next update is due.
+            loopScheduler.waitUntil(currentTime + (long) ((1 - deltaU) * timePerUpdate));
+        }
+    }
+
+    /**
+     * runRenderLoop | Initiates the render loop of the game, drawing the latest published
+     * snapshot of the game and tracking the frames rendered per second.
+     */
+    private void runRenderLoop() {
+        long timePerFrame = 1000000000L / TARGET_FPS;
+        long timePerIdleFrame = 1000000000L / IDLE_FPS;
+        LoopScheduler frameScheduler = new LoopScheduler();
+        BooleanSupplier isWoken = () -> isRedrawRequested;
+
+        int frames = 0;
+        long totalRenderTime = 0;
+        long maxRenderTime = 0;
+        long lastCheck = System.currentTimeMillis();
+        long nextFrameTime = System.nanoTime();
+
+        //noinspection InfiniteLoopStatement
+        while (true) {
+            isRedrawRequested = false;
+            long renderStart = System.nanoTime();
+            gamePanel.render();
+            long renderTime = System.nanoTime() - renderStart;
+            totalRenderTime += renderTime;
+            if (renderTime > maxRenderTime) maxRenderTime = renderTime;
+            frames++;
+
             if (System.currentTimeMillis() - lastCheck >= 1000) {
                 lastCheck = System.currentTimeMillis();
-                System.out.println("FPS: " + frames + " | UPS: " + updates);
-                currentUpdates = updates;
+                loopMetrics.recordFrames(frames, totalRenderTime / (frames * 1000.0), maxRenderTime / 1000.0);
+                // Reads the play state once, so the statistics are not split across a replaced play state.
+                PlayState measuredPlayState = playState;
+                LevelManager levelManager = measuredPlayState.getLevelManager();
+                loopMetrics.recordLevelDrawTimes(levelManager.getAverageDrawTime(), levelManager.getMaxDrawTime());
+                levelManager.resetDrawTimes();
+                loopMetrics.recordCulling(measuredPlayState.getViewport().getDrawn(), measuredPlayState.getViewport().getCulled());
                 frames = 0;
-                updates = 0;
+                totalRenderTime = 0;
+                maxRenderTime = 0;
+            }
 
+            if (renderSnapshot == null || isRenderAnimating()) {
+                // Owed frames are skipped rather than rendered back to back.
+                nextFrameTime = Math.max(nextFrameTime + timePerFrame, System.nanoTime());
+                frameScheduler.waitUntil(nextFrameTime);
+            } else {
+                // Nothing on the screen changes, so frames are drawn at the idle frame rate until a redraw is requested.
+                nextFrameTime = Math.max(nextFrameTime + timePerIdleFrame, System.nanoTime());
+                frameScheduler.waitUntil(nextFrameTime, isWoken);
+                nextFrameTime = Math.min(nextFrameTime, System.nanoTime());
             }
         }
     }
 
     /**
-     * getCurrentUpdates fetches the current updates-per-second of the game from the game loop.
-     * @return Returns the current updates-per-second of the game from the game loop.
+     * getTargetUpdates fetches the targeted updates-per-second of the game loop. Game logic
+     * timed in seconds is converted with this nominal rate so it plays out the same on every run.
+     * @return Returns the targeted updates-per-second of the game loop.
+     */
+    public int getTargetUpdates() {return TARGET_UPS;}
+
+    /**
+     * getRenderSnapshot fetches the frame snapshot being drawn by the render thread.
+     * @return Returns the FrameSnapshot of the frame being drawn.
      */
-    public int getCurrentUpdates() {return currentUpdates;}
+    public FrameSnapshot getRenderSnapshot() {return renderSnapshot;}
+
+    /**
+     * getRenderAlpha fetches the fraction of the current update elapsed when the frame being
+     * drawn was started, used to blend the previous and current state of the rendered components.
+     * @return Returns a value between 0 and 1.
+     */
+    public float getRenderAlpha() {return renderAlpha;}
+
+    /**
+     * getInputQueue fetches the queue of user inputs waiting to be applied by the game thread.
+     * @return Returns the InputQueue of the game.
+     */
+    public InputQueue getInputQueue() {return inputQueue;}
+
+    /**
+     * getLoopMetrics fetches the timing measurements of the game loop.
+     * @return Returns the LoopMetrics of the game loop.
+     */
+    public LoopMetrics getLoopMetrics() {return loopMetrics;}
+
+    /**
+     * setMaxUpdatesPerLoop sets the maximum number of owed updates run in a single pass of
+     * the game loop. Owed updates beyond this cap are dropped and counted in the loop metrics.
+     * @param maxUpdatesPerLoop The maximum number of updates per pass of the game loop.
+     */
+    public void setMaxUpdatesPerLoop(int maxUpdatesPerLoop) {
+        this.maxUpdatesPerLoop = Math.max(1, maxUpdatesPerLoop);
+    }
 
 
     /**
@@ -222,8 +511,8 @@ public class Game implements Runnable{
     public int getTileSize() {return TILE_SIZE;}
 
     /**
-     * getGameTime | Fetches the current game time in nanoseconds.
-     * @return Returns the current game time in nanoseconds.
+     * getTileScale | Fetches the scaling factor of tiles, the number of game screen pixels covering one pixel of the native art.
+     * @return Returns the scale value of tiles.
      */
-    public long getGameTime() {return gameTime;}
+    public int getTileScale() {return TILE_SCALE;}
 }
\ No newline at end of file
@@ -2,23 +2,38 @@ package main;
 
 import inputs.KeyboardInputs;
 import inputs.MouseInputs;
+import render.ScaleMode;
+import render.ScreenScale;
 
-import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferStrategy;
 
 /**
- * The GamePanel class extends the JPanel class, and is the
+ * The GamePanel class extends the Canvas class, and is the
  * component of the game where the different states of the game
- * and their components are displayed.
+ * and their components are displayed. The render thread actively
+ * renders each frame into the buffer strategy of the canvas.
+ * Frames are laid out at the fixed resolution of the game screen and
+ * drawn through the scale of the panel, so each layer of the frame is
+ * scaled once to the panel with nearest-neighbour sampling.
  */
-public class GamePanel extends JPanel{
+public class GamePanel extends Canvas {
 
+    /**The number of buffers used by the buffer strategy of the panel.*/
+    private static final int NUM_BUFFERS = 3;
+
+    /**The mode the frame is scaled to the panel by, set by the robotoscape.scale property to integer or fit.*/
+    private final ScaleMode scaleMode = ScaleMode.fromName(System.getProperty("robotoscape.scale", "fit"));
+    /**The placement of the scaled frame in the panel, replaced whenever the panel is resized.*/
+    private volatile ScreenScale screenScale;
     protected final KeyboardInputs keyboardInputs;
     protected final MouseInputs mouseInputs;
     private final Game game;
 
     /**
-     * GamePanel initializes the JPanel component of the game.
+     * GamePanel initializes the Canvas component of the game.
      * @param game The main game containing the different states of the
      *             game and their configuration.
      */
@@ -32,16 +47,54 @@ public class GamePanel extends JPanel{
         addMouseMotionListener(mouseInputs);
         // Configures state of GamePanel.
         this.setPreferredSize(new Dimension(game.SCREEN_WIDTH, game.SCREEN_HEIGHT));
+        this.screenScale = ScreenScale.of(scaleMode, game.SCREEN_WIDTH, game.SCREEN_HEIGHT, game.SCREEN_WIDTH, game.SCREEN_HEIGHT);
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                screenScale = ScreenScale.of(scaleMode, game.SCREEN_WIDTH, game.SCREEN_HEIGHT, getWidth(), getHeight());
+            }
+        });
         this.setBackground(Color.black);
-        this.setDoubleBuffered(true);
+        this.setIgnoreRepaint(true); // Frames are drawn by the render thread, not by paint requests.
         this.setFocusable(true);
         this.requestFocus(); // input focus to gamePanel, allowing interactions
     }
 
-    public void paintComponent(Graphics graphics) {
-        super.paintComponent(graphics);
-        game.renderGame(graphics);
-        graphics.dispose();
+    /**
+     * render draws the current state of the game into the back buffer of the panel
+     * and shows it on the game screen. The buffer strategy is created on the first
+     * call once the panel is displayable.
+     */
+    public void render() {
+        BufferStrategy bufferStrategy = getBufferStrategy();
+        if (bufferStrategy == null) {
+            if (isDisplayable()) createBufferStrategy(NUM_BUFFERS);
+            return;
+        }
+        ScreenScale scale = screenScale;
+        if (scale.width() <= 0 || scale.height() <= 0) return;
+        // Redraws the frame if the contents of the buffers were restored or lost while drawing.
+        do {
+            do {
+                Graphics2D graphics = (Graphics2D) bufferStrategy.getDrawGraphics();
+                try {
+                    graphics.setColor(getBackground());
+                    graphics.fillRect(0, 0, getWidth(), getHeight());
+                    // The frame is drawn through the scale of the panel, so the world layer and retained screens are scaled once as they are drawn.
+                    if (!scale.isIdentity()) {
+                        graphics.translate(scale.x(), scale.y());
+                        graphics.scale(scale.scale(), scale.scale());
+                        graphics.clipRect(0, 0, game.SCREEN_WIDTH, game.SCREEN_HEIGHT);
+                    }
+                    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+                    game.renderGame(graphics);
+                } finally {
+                    graphics.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
     }
 
     public void update() {
@@ -56,6 +109,14 @@ public class GamePanel extends JPanel{
         return mouseInputs;
     }
 
+    /**
+     * getScreenScale fetches the placement of the scaled frame in the panel.
+     * @return Returns the ScreenScale of the panel at its current size.
+     */
+    public ScreenScale getScreenScale() {
+        return screenScale;
+    }
+
     public Game getGame() {
         return game;
     }
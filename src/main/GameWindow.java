@@ -7,7 +7,7 @@ public class GameWindow extends JFrame {
     public GameWindow(GamePanel panel) {
         JFrame window = new JFrame();
         window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        window.setResizable(false);
+        window.setResizable(true); // Frames are scaled to the size of the window
         window.setTitle("Robotoscape");
 
         window.add(panel);
@@ -17,5 +17,7 @@ public class GameWindow extends JFrame {
         window.setLocationRelativeTo(null); // Place window at center
 
         window.setVisible(true);// Make window visible
+
+        panel.requestFocus(); // input focus to the panel once it is displayed
     }
 }
@@ -0,0 +1,158 @@
+package main;
+
+import gamestate.GameState;
+import inputs.GameInputType;
+import inputs.InputRecorder;
+import inputs.InputRecording;
+import inputs.ScriptedInput;
+import loading.LoadingPhase;
+import utility.Atlas;
+import utility.ImageUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The HeadlessRunner class runs the play state of the game without a window,
+ * stepping updates as fast as the CPU allows. It is used for soak tests and
+ * performance regression runs on machines without a display.
+ * <p>
+ * Usage: {@code HeadlessRunner <level> <ticks> [script]} or
+ * {@code HeadlessRunner --replay <recording> [speed]}
+ * <p>
+ * Each line of the optional script applies an input before the given tick:
+ * {@code <tick> KEY_PRESSED|KEY_RELEASED <keyCode>} or
+ * {@code <tick> MOUSE_CLICKED|MOUSE_PRESSED|MOUSE_RELEASED|MOUSE_MOVED <button> <x> <y>}.
+ * Blank lines and lines starting with # are ignored.
+ * <p>
+ * A recording is written by running the game with {@code -Drobotoscape.record=<file>}. It is
+ * replayed as fast as possible, or at the given multiple of real time, and the play state
+ * of every update is checked against the recording.
+ */
+public class HeadlessRunner {
+    /**The headless game being stepped.*/
+    private final Game game;
+    /**The scripted inputs of the run, ordered by tick.*/
+    private final List<ScriptedInput> script;
+    /**The checksum of the play state folded over every stepped tick, if checksums are kept.*/
+    private long checksum;
+
+    /**
+     * HeadlessRunner initializes a headless game on the given level.
+     * @param levelNumber   The level number of the level to run.
+     * @param script        The scripted inputs of the run, ordered by tick.
+     */
+    public HeadlessRunner(int levelNumber, List<ScriptedInput> script) {
+        System.setProperty("java.awt.headless", "true");
+        this.game = new Game(true);
+        this.script = script;
+        game.getPlayingState().loadLevel(levelNumber);
+        GameState.state = GameState.PLAY;
+        LoadingPhase.phase = LoadingPhase.INIT;
+    }
+
+    /**
+     * run steps the given number of ticks as fast as possible, applying the scripted inputs as their tick is reached.
+     * @param ticks The number of ticks to step.
+     * @return Returns the number of ticks stepped per second.
+     */
+    public double run(long ticks) {
+        return run(ticks, 0, false);
+    }
+
+    /**
+     * run steps the given number of ticks, applying the scripted inputs as their tick is reached.
+     * @param ticks         The number of ticks to step.
+     * @param speed         The multiple of real time the ticks are paced at, or 0 to step as fast as possible.
+     * @param keepChecksum  The condition determining if the checksum of the play state is folded after every tick.
+     * @return Returns the number of ticks stepped per second.
+     */
+    public double run(long ticks, double speed, boolean keepChecksum) {
+        LoopScheduler scheduler = new LoopScheduler();
+        double timePerTick = speed > 0 ? 1000000000.0 / (game.getTargetUpdates() * speed) : 0;
+        int scriptIndex = 0;
+        long startTime = System.nanoTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            if (speed > 0) scheduler.waitUntil(startTime + (long) (tick * timePerTick));
+            while (scriptIndex < script.size() && script.get(scriptIndex).tick() <= tick) {
+                script.get(scriptIndex++).offerTo(game.getInputQueue());
+            }
+            game.simulateUpdate();
+            if (keepChecksum) checksum = InputRecorder.foldChecksum(checksum, game.getPlayingState().computeChecksum());
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1000000000.0;
+        return ticks / elapsedSeconds;
+    }
+
+    /**
+     * getChecksum fetches the checksum of the play state folded over every stepped tick.
+     * @return Returns the checksum of the run, or 0 if checksums were not kept.
+     */
+    public long getChecksum() {return checksum;}
+
+    /**
+     * parseScript reads the scripted inputs of a script file.
+     * @param scriptFile The path of the script file.
+     * @return Returns the scripted inputs ordered by tick.
+     * @throws IOException If the script file cannot be read.
+     */
+    private static List<ScriptedInput> parseScript(Path scriptFile) throws IOException {
+        List<ScriptedInput> script = new ArrayList<>();
+        for (String line : Files.readAllLines(scriptFile)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] values = line.split("\\s+");
+            long tick = Long.parseLong(values[0]);
+            GameInputType type = GameInputType.valueOf(values[1]);
+            switch (type) {
+                case KEY_PRESSED, KEY_RELEASED -> script.add(new ScriptedInput(tick, type, Integer.parseInt(values[2]), 0, 0, 0));
+                default -> script.add(new ScriptedInput(tick, type, 0, Integer.parseInt(values[2]), Integer.parseInt(values[3]), Integer.parseInt(values[4])));
+            }
+        }
+        script.sort((first, second) -> Long.compare(first.tick(), second.tick()));
+        return script;
+    }
+
+    /**
+     * replay steps a recorded play session and checks it against its recording.
+     * @param recordingFile The path of the recording file.
+     * @param speed         The multiple of real time the session is replayed at, or 0 to replay as fast as possible.
+     * @return Returns true if every update of the replay matched the recording.
+     * @throws IOException If the recording file cannot be read.
+     */
+    private static boolean replay(Path recordingFile, double speed) throws IOException {
+        InputRecording recording = InputRecording.read(recordingFile);
+        HeadlessRunner runner = new HeadlessRunner(recording.getLevelNumber(), recording.getInputs());
+        double ticksPerSecond = runner.run(recording.getTicks(), speed, true);
+        boolean isMatching = runner.getChecksum() == recording.getChecksum();
+        System.out.printf("Replay of level %d | Ticks: %d | Inputs: %d | Ticks per second: %.0f | %s%n",
+                recording.getLevelNumber(), recording.getTicks(), recording.getInputs().size(), ticksPerSecond,
+                isMatching ? "Matches recording" : "DIVERGED from recording");
+        return isMatching;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 2 && args[0].equals("--replay")) {
+            double speed = args.length > 2 ? Double.parseDouble(args[2]) : 0;
+            System.exit(replay(Path.of(args[1]), speed) ? 0 : 2);
+        }
+        if (args.length < 2) {
+            System.err.println("Usage: HeadlessRunner <level> <ticks> [script] | HeadlessRunner --replay <recording> [speed]");
+            System.exit(1);
+        }
+        int levelNumber = Integer.parseInt(args[0]);
+        long ticks = Long.parseLong(args[1]);
+        List<ScriptedInput> script = args.length > 2 ? parseScript(Path.of(args[2])) : new ArrayList<>();
+
+        HeadlessRunner runner = new HeadlessRunner(levelNumber, script);
+        double ticksPerSecond = runner.run(ticks);
+        System.out.printf("Level %d | Ticks: %d | Ticks per second: %.0f%n", levelNumber, ticks, ticksPerSecond);
+        System.out.printf("Sprite cache | Hits: %d | Misses: %d | Decoded: %d KiB%n",
+                Atlas.getSpriteCacheHits(), Atlas.getSpriteCacheMisses(), Atlas.getDecodedBytes() / 1024);
+        System.out.println(ImageUtils.getPreparationReport());
+        System.out.printf("Fonts | Loads: %d%n", Atlas.getFontLoads());
+    }
+}
@@ -0,0 +1,181 @@
+package main;
+
+/**
+ * The LoopMetrics class contains the timing measurements of the game loop
+ * and the render loop. The values are written by the thread running each loop
+ * and may be read from any thread.
+ */
+public class LoopMetrics {
+    /**The number of frames rendered during the last second.*/
+    private volatile int framesPerSecond;
+    /**The number of updates run during the last second.*/
+    private volatile int updatesPerSecond;
+    /**The total number of owed updates that were dropped to keep the game loop from falling behind.*/
+    private volatile long droppedUpdates;
+    /**The average wake-up jitter of the game loop during the last second in microseconds.*/
+    private volatile double averageJitter;
+    /**The largest wake-up jitter of the game loop during the last second in microseconds.*/
+    private volatile double maxJitter;
+    /**The average time between receiving and applying an input during the last second in microseconds.*/
+    private volatile double averageInputLatency;
+    /**The longest time between receiving and applying an input during the last second in microseconds.*/
+    private volatile double maxInputLatency;
+    /**The average time taken to render a frame during the last second in microseconds.*/
+    private volatile double averageRenderTime;
+    /**The longest time taken to render a frame during the last second in microseconds.*/
+    private volatile double maxRenderTime;
+    /**The average time taken to draw the level tiles of a frame during the last second in microseconds.*/
+    private volatile double averageLevelDrawTime;
+    /**The longest time taken to draw the level tiles of a frame during the last second in microseconds.*/
+    private volatile double maxLevelDrawTime;
+    /**The number of level components drawn in the last frame of the last second.*/
+    private volatile int drawnComponents;
+    /**The number of level components skipped for being off-screen in the last frame of the last second.*/
+    private volatile int culledComponents;
+
+    /**
+     * recordUpdates stores the update measurements of the last second of the game loop.
+     * @param updates       The number of updates run during the last second.
+     * @param averageJitter The average wake-up jitter in microseconds.
+     * @param maxJitter     The largest wake-up jitter in microseconds.
+     */
+    void recordUpdates(int updates, double averageJitter, double maxJitter) {
+        this.updatesPerSecond = updates;
+        this.averageJitter = averageJitter;
+        this.maxJitter = maxJitter;
+    }
+
+    /**
+     * recordInputLatency stores the input-to-update latency of the last second of the game loop.
+     * @param averageInputLatency   The average time between receiving and applying an input in microseconds.
+     * @param maxInputLatency       The longest time between receiving and applying an input in microseconds.
+     */
+    void recordInputLatency(double averageInputLatency, double maxInputLatency) {
+        this.averageInputLatency = averageInputLatency;
+        this.maxInputLatency = maxInputLatency;
+    }
+
+    /**
+     * recordFrames stores the frame measurements of the last second of the render loop.
+     * @param frames            The number of frames rendered during the last second.
+     * @param averageRenderTime The average time taken to render a frame in microseconds.
+     * @param maxRenderTime     The longest time taken to render a frame in microseconds.
+     */
+    void recordFrames(int frames, double averageRenderTime, double maxRenderTime) {
+        this.framesPerSecond = frames;
+        this.averageRenderTime = averageRenderTime;
+        this.maxRenderTime = maxRenderTime;
+    }
+
+    /**
+     * recordLevelDrawTimes stores the level draw times of the last second of the render loop.
+     * @param averageLevelDrawTime  The average time taken to draw the level tiles of a frame in microseconds.
+     * @param maxLevelDrawTime      The longest time taken to draw the level tiles of a frame in microseconds.
+     */
+    void recordLevelDrawTimes(double averageLevelDrawTime, double maxLevelDrawTime) {
+        this.averageLevelDrawTime = averageLevelDrawTime;
+        this.maxLevelDrawTime = maxLevelDrawTime;
+    }
+
+    /**
+     * recordCulling stores the number of level components drawn and culled in the last frame of the render loop.
+     * @param drawnComponents   The number of tile chunks, sprites and hearts drawn.
+     * @param culledComponents  The number of tile chunks, sprites and hearts skipped for being off-screen.
+     */
+    void recordCulling(int drawnComponents, int culledComponents) {
+        this.drawnComponents = drawnComponents;
+        this.culledComponents = culledComponents;
+    }
+
+    /**
+     * addDroppedUpdates adds to the number of dropped updates of the game loop.
+     * @param count The number of updates dropped.
+     */
+    void addDroppedUpdates(long count) {
+        droppedUpdates += count;
+    }
+
+    /**
+     * getFramesPerSecond fetches the number of frames rendered during the last second.
+     * @return Returns the frames-per-second of the game loop.
+     */
+    public int getFramesPerSecond() {return framesPerSecond;}
+
+    /**
+     * getUpdatesPerSecond fetches the number of updates run during the last second.
+     * @return Returns the updates-per-second of the game loop.
+     */
+    public int getUpdatesPerSecond() {return updatesPerSecond;}
+
+    /**
+     * getDroppedUpdates fetches the total number of updates dropped by the game loop.
+     * @return Returns the number of dropped updates since the game started.
+     */
+    public long getDroppedUpdates() {return droppedUpdates;}
+
+    /**
+     * getAverageJitter fetches the average wake-up jitter of the game loop during the last second.
+     * @return Returns the average wake-up jitter in microseconds.
+     */
+    public double getAverageJitter() {return averageJitter;}
+
+    /**
+     * getMaxJitter fetches the largest wake-up jitter of the game loop during the last second.
+     * @return Returns the largest wake-up jitter in microseconds.
+     */
+    public double getMaxJitter() {return maxJitter;}
+
+    /**
+     * getAverageInputLatency fetches the average time between receiving and applying an input during the last second.
+     * @return Returns the average input latency in microseconds.
+     */
+    public double getAverageInputLatency() {return averageInputLatency;}
+
+    /**
+     * getMaxInputLatency fetches the longest time between receiving and applying an input during the last second.
+     * @return Returns the longest input latency in microseconds.
+     */
+    public double getMaxInputLatency() {return maxInputLatency;}
+
+    /**
+     * getAverageRenderTime fetches the average time taken to render a frame during the last second.
+     * @return Returns the average frame render time in microseconds.
+     */
+    public double getAverageRenderTime() {return averageRenderTime;}
+
+    /**
+     * getMaxRenderTime fetches the longest time taken to render a frame during the last second.
+     * @return Returns the longest frame render time in microseconds.
+     */
+    public double getMaxRenderTime() {return maxRenderTime;}
+
+    /**
+     * getAverageLevelDrawTime fetches the average time taken to draw the level tiles of a frame during the last second.
+     * @return Returns the average level draw time in microseconds.
+     */
+    public double getAverageLevelDrawTime() {return averageLevelDrawTime;}
+
+    /**
+     * getMaxLevelDrawTime fetches the longest time taken to draw the level tiles of a frame during the last second.
+     * @return Returns the longest level draw time in microseconds.
+     */
+    public double getMaxLevelDrawTime() {return maxLevelDrawTime;}
+
+    /**
+     * getDrawnComponents fetches the number of level components drawn in the last frame of the last second.
+     * @return Returns the number of drawn tile chunks, sprites and hearts.
+     */
+    public int getDrawnComponents() {return drawnComponents;}
+
+    /**
+     * getCulledComponents fetches the number of level components skipped for being off-screen in the last frame of the last second.
+     * @return Returns the number of culled tile chunks, sprites and hearts.
+     */
+    public int getCulledComponents() {return culledComponents;}
+
+    @Override
+    public String toString() {
+        return String.format("FPS: %d | UPS: %d | Jitter: %.1fus avg, %.1fus max | Render: %.1fus avg, %.1fus max | Level: %.1fus avg, %.1fus max | Drawn: %d, culled: %d | Input: %.1fus avg, %.1fus max | Dropped updates: %d",
+                framesPerSecond, updatesPerSecond, averageJitter, maxJitter, averageRenderTime, maxRenderTime, averageLevelDrawTime, maxLevelDrawTime, drawnComponents, culledComponents, averageInputLatency, maxInputLatency, droppedUpdates);
+    }
+}
@@ -0,0 +1,90 @@
+package main;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The LoopScheduler class parks the thread running a loop of the game, the
+ * game thread or the render thread, until the deadline of its next update
+ * or frame, and keeps track of how far each wake-up lands from its deadline.
+ */
+public class LoopScheduler {
+    /**The remaining time in nanoseconds under which the scheduler spins instead of parking the thread.*/
+    private static final long SPIN_THRESHOLD = 1_000_000L;
+    /**The sum of the wake-up jitter in nanoseconds since the last reset.*/
+    private long totalJitter;
+    /**The largest wake-up jitter in nanoseconds since the last reset.*/
+    private long maxJitter;
+    /**The number of wake-ups since the last reset.*/
+    private int wakeUps;
+
+    /**
+     * waitUntil blocks the calling thread until the given deadline. The thread is parked
+     * while the deadline is further than the spin threshold, then spins for the remaining
+     * sub-millisecond interval to wake up close to the deadline.
+     * @param deadline The System.nanoTime() value to wait for.
+     */
+    public void waitUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) return;
+        while (remaining > SPIN_THRESHOLD) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            remaining = deadline - System.nanoTime();
+        }
+        while (remaining > 0) {
+            Thread.onSpinWait();
+            remaining = deadline - System.nanoTime();
+        }
+        recordJitter(-remaining);
+    }
+
+    /**
+     * waitUntil blocks the calling thread until the given deadline, or until the thread is unparked
+     * once the wake-up condition holds. The thread is parked for the whole wait without spinning,
+     * as an idle loop wakes up on the condition rather than close to its deadline.
+     * @param deadline  The System.nanoTime() value to wait for.
+     * @param isWoken   The condition ending the wait early, checked whenever the thread is unparked.
+     */
+    public void waitUntil(long deadline, BooleanSupplier isWoken) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > 0 && !isWoken.getAsBoolean()) {
+            LockSupport.parkNanos(remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * recordJitter records how late a wake-up was compared to its deadline.
+     * @param jitter The lateness of the wake-up in nanoseconds.
+     */
+    private void recordJitter(long jitter) {
+        totalJitter += jitter;
+        if (jitter > maxJitter) maxJitter = jitter;
+        wakeUps++;
+    }
+
+    /**
+     * getAverageJitter fetches the average wake-up jitter since the last reset.
+     * @return Returns the average wake-up jitter in microseconds.
+     */
+    public double getAverageJitter() {
+        return wakeUps == 0 ? 0 : totalJitter / (wakeUps * 1000.0);
+    }
+
+    /**
+     * getMaxJitter fetches the largest wake-up jitter since the last reset.
+     * @return Returns the largest wake-up jitter in microseconds.
+     */
+    public double getMaxJitter() {
+        return maxJitter / 1000.0;
+    }
+
+    /**
+     * resetJitter clears the jitter statistics of the scheduler.
+     */
+    public void resetJitter() {
+        totalJitter = 0;
+        maxJitter = 0;
+        wakeUps = 0;
+    }
+}
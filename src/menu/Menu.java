@@ -3,6 +3,7 @@ package menu;
 import gamestate.GameState;
 import loading.LoadingPhase;
 import main.Game;
+import render.RetainedScreen;
 import text.InteractiveText;
 import text.RegularText;
 import utility.Atlas;
@@ -25,6 +26,8 @@ public class Menu {
     private final InteractiveText creditsText;
     /**The interactive exit text of the menu. */
     private final InteractiveText exitText;
+    /**The retained content of the menu, drawn again only where it changed.*/
+    private final RetainedScreen screen;
 
     /**
      * Menu | Initializes the menu component of the game.
@@ -47,6 +50,7 @@ public class Menu {
         startText = new InteractiveText(selectionsY, "Start", 60, 230, Atlas.TARRGET_FONT); // Initializes startText
         creditsText = new InteractiveText(selectionsY + selectionHeight, "Credits", 60, 230, Atlas.TARRGET_FONT); // Initializes creditsText.
         exitText = new InteractiveText(selectionsY + selectionHeight*2, "Exit", 60, 230, Atlas.TARRGET_FONT); // Initializes exitText.
+        screen = new RetainedScreen(game.getScreenWidth(), game.getScreenHeight(), this::drawMenu);
     }
 
     /**
@@ -54,10 +58,36 @@ public class Menu {
      * @param graphics The graphics object that draws images on the game screen.
      */
     public void renderMenu(Graphics graphics) {
+        screen.updateText(startText);
+        screen.updateText(creditsText);
+        screen.updateText(exitText);
+        screen.render(graphics);
+    }
+
+    /**
+     * drawMenu | Draws the components of the menu into its retained content.
+     * @param graphics The graphics object that draws images on the retained content of the menu.
+     */
+    private void drawMenu(Graphics2D graphics) {
         titleText.renderText(graphics, game.getScreenWidth());
-        startText.renderText(graphics, game.getScreenWidth());
-        creditsText.renderText(graphics, game.getScreenWidth());
-        exitText.renderText(graphics, game.getScreenWidth());
+        startText.drawText(graphics, game.getScreenWidth());
+        creditsText.drawText(graphics, game.getScreenWidth());
+        exitText.drawText(graphics, game.getScreenWidth());
+    }
+
+    /**
+     * invalidate | Makes the menu be drawn again in full on the next frame.
+     */
+    public void invalidate() {
+        screen.invalidate();
+    }
+
+    /**
+     * isAnimating | Determines if the menu changes from frame to frame, as an active interactive text blinks.
+     * @return Returns true if any interactive text of the menu is active.
+     */
+    public boolean isAnimating() {
+        return startText.isActive() || creditsText.isActive() || exitText.isActive();
     }
 
     /**
@@ -1,12 +1,12 @@
 package projectiles;
 
+import render.SpriteSnapshot;
+
 import java.awt.*;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 
-import static utility.Atlas.extractAnimationImages;
-
 /**
  * The Projectile class contains the state and behavior of the
  * projectiles in the game.
@@ -15,55 +15,56 @@ public class Projectile {
 
     /** The x,y-coordinate of the projectile.*/
     private final Point2D.Float coordinates;
+    /** The x,y-coordinate of the projectile at the end of the previous update.*/
+    private final Point2D.Float previousCoordinates;
     /** The interactive hit box of the projectile.*/
     private final Rectangle2D.Float hitBox;
-    /** The damage value of the projectile.*/
-    private final int damageValue;
+    /** The shared definition of the kind of the projectile.*/
+    private final ProjectileType type;
     /** The counter used for transitioning between each animation frame of the projectile as it is shot.*/
     private float shootCounter;
     /** The counter used for transitioning between each animation frame of the projectile as it explodes.*/
     private float explodeCounter;
-    /** The direction of the projectile.*/
-    private final double direction;
-    /** The speed of the projectile.*/
-    private final float speed;
+    /** The x-axis distance travelled by the projectile per update.*/
+    private final double xVelocity;
+    /** The y-axis distance travelled by the projectile per update.*/
+    private final double yVelocity;
     /** The active state of the projectile.*/
     private boolean isActive;
     /** The exploding state of the projectile.*/
     private boolean isExploding;
     /** Determines if the projectile has already dealt damage.*/
     private boolean hasDealtDamage;
-    /** The set of animation frames used for the projectile as it is shot.*/
-    private final BufferedImage[] shootAnimations;
-    /** The set of animation frames used for the projectile as it explodes.*/
-    private final BufferedImage[] explosionAnimations;
 
-    public Projectile(Point2D.Float start, Point2D.Float end, double xOffset, double yOffset, float speed, int damageValue, String shootAnimationPath, String explosionAnimationPath) {
-        this.shootAnimations = extractAnimationImages(shootAnimationPath, 16, 16);
-        this.explosionAnimations = extractAnimationImages(explosionAnimationPath, 16, 16);
+    /**
+     * Projectile creates a projectile shot from a starting coordinate towards a point on the game screen.
+     * @param type      The shared definition of the kind of the projectile.
+     * @param start     The starting x,y-coordinate of the projectile.
+     * @param end       The x,y-coordinate on the game screen the projectile is shot towards.
+     * @param xOffset   The x-value offset of the game screen.
+     * @param yOffset   The y-value offset of the game screen.
+     */
+    public Projectile(ProjectileType type, Point2D.Float start, Point2D.Float end, double xOffset, double yOffset) {
+        this.type = type;
         this.coordinates = new Point2D.Float(start.x, start.y);
-        this.hitBox = new Rectangle2D.Float(start.x, start.y, 20, 20);
+        this.previousCoordinates = new Point2D.Float(start.x, start.y);
+        this.hitBox = new Rectangle2D.Float(start.x, start.y, type.getHitBoxSize(), type.getHitBoxSize());
         float directionX = (int) (end.x - start.x + xOffset);
         float directionY = (int) (end.y - start.y + yOffset);
-        this.direction = Math.atan2(directionY, directionX);
-        this.speed = speed;
-        this.damageValue = damageValue;
+        double direction = Math.atan2(directionY, directionX);
+        this.xVelocity = type.getSpeed()*Math.cos(direction);
+        this.yVelocity = type.getSpeed()*Math.sin(direction);
         this.isActive = true;
     }
 
     /**
-     * renderProjectile displays the projectile on the game screen.
-     * @param graphics  The graphics object that draws images on the game screen.
-     * @param xOffset   The x-value offset of the entity on the game screen.
-     * @param yOffset   The y-value offset of the entity on the game screen.
+     * captureSnapshot stores the drawable state of the projectile at the end of the current update.
+     * @param snapshot The sprite snapshot to be filled with the state of the projectile.
      */
-    public void renderProjectile(Graphics2D graphics, double xOffset, double yOffset) {
-        if (!isExploding) {
-            graphics.drawImage(shootAnimations[(int) Math.floor(shootCounter)], (int) (coordinates.x - xOffset), (int) (coordinates.y - yOffset), 20, 20, null);
-//            renderHitBox(graphics, xOffset, yOffset);
-        } else {
-            graphics.drawImage(explosionAnimations[(int) Math.floor(explodeCounter)], (int) (coordinates.x - xOffset), (int) (coordinates.y - yOffset), 20, 20, null);
-        }
+    public void captureSnapshot(SpriteSnapshot snapshot) {
+        BufferedImage image = isExploding ? type.getExplosionAnimation(explodeCounter) : type.getShootAnimation(shootCounter);
+        int size = type.getHitBoxSize();
+        snapshot.set(image, previousCoordinates.x, previousCoordinates.y, coordinates.x, coordinates.y, size, size, true, 1.0f);
     }
 
     /**
@@ -81,19 +82,20 @@ public class Projectile {
      * updateProjectile updates the state of the projectile.
      */
     public void updateProjectile() {
+        previousCoordinates.setLocation(coordinates);
         if (!isExploding) {
-            coordinates.x += speed*Math.cos(direction);
-            coordinates.y += speed*Math.sin(direction);
+            coordinates.x += xVelocity;
+            coordinates.y += yVelocity;
             hitBox.x = coordinates.x;
             hitBox.y = coordinates.y;
 
-            shootCounter += 0.08f;
-            if (shootCounter > shootAnimations.length) {
+            shootCounter += type.getShootAnimationSpeed();
+            if (shootCounter > type.getShootFrameCount()) {
                 shootCounter = 0.0f;
             }
         } else {
-            explodeCounter += 0.04f;
-            if (explodeCounter > explosionAnimations.length) {
+            explodeCounter += type.getExplosionAnimationSpeed();
+            if (explodeCounter > type.getExplosionFrameCount()) {
                 explodeCounter = 0.0f;
                 isActive = false;
             }
@@ -106,7 +108,11 @@ public class Projectile {
      */
     public Rectangle2D.Float getHitBox() {return hitBox;}
 
-    public int getDamageValue() {return damageValue;}
+    /**
+     * getDamageValue fetches the damage value of the projectile.
+     * @return Returns the damage value of the kind of the projectile.
+     */
+    public int getDamageValue() {return type.getDamageValue();}
 
     /**
      * isActive fetches the active state of the projectile.
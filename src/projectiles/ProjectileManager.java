@@ -3,8 +3,7 @@ package projectiles;
 import entity.Enemy;
 import entity.EnemyManager;
 import level.Level;
-import tile.TileManager;
-import utility.Atlas;
+import render.FrameSnapshot;
 import utility.PlayUtils;
 
 import java.awt.*;
@@ -19,22 +18,20 @@ public class ProjectileManager {
 
     /** The current level of the game.*/
     private final Level level;
-    /** The tile manager that manages the tiles used in the game.*/
-    private final TileManager tileManager;
     /** Manages all the enemies used in the game.*/
     private final EnemyManager enemyManager;
     /** Contains all the projectiles of the player in the game.*/
     private final ArrayList<Projectile> playerProjectiles = new ArrayList<>();
+    /** The kind of the projectiles shot by the player, resolved when the level is loaded rather than on the first shot.*/
+    private final ProjectileType playerProjectileType = ProjectileType.FIRE;
 
     /**
      * ProjectileManager is a class that manages all the projectiles created in the game.
      * @param level         The current level of the game.
-     * @param tileManager   The tileManager instance that manages all the tiles used in current level of the game.
      * @param enemyManager  The enemyManager instance that manages all the tiles used in the current level of the game.
      */
-    public ProjectileManager(Level level, TileManager tileManager, EnemyManager enemyManager) {
+    public ProjectileManager(Level level, EnemyManager enemyManager) {
         this.level = level;
-        this.tileManager = tileManager;
         this.enemyManager = enemyManager;
     }
 
@@ -45,8 +42,8 @@ public class ProjectileManager {
      * @param xOffset   The x-value offset of the entity on the game screen.
      * @param yOffset   The y-value offset of the entity on the game screen.
      */
-    public void createPlayerProjectile(Point2D.Float start, Point2D.Float end, double xOffset, double yOffset, int damageValue) {
-        playerProjectiles.add(new Projectile(start, end, xOffset, yOffset, 3.2f, damageValue, Atlas.FIRE_PROJECTILE, Atlas.FIRE_EXPLOSION));
+    public void createPlayerProjectile(Point2D.Float start, Point2D.Float end, double xOffset, double yOffset) {
+        playerProjectiles.add(new Projectile(playerProjectileType, start, end, xOffset, yOffset));
     }
 
     /**
@@ -55,34 +52,41 @@ public class ProjectileManager {
     public void updatePlayerProjectiles() {
         // If the projectile is not active, remove the projectile from the list, deleting it.
         playerProjectiles.removeIf(projectile -> !projectile.isActive());
-        for (Projectile projectile : playerProjectiles) {
+        for (int i = 0; i < playerProjectiles.size(); i++) {
+            Projectile projectile = playerProjectiles.get(i);
             // Updates the state of the projectile.
             projectile.updateProjectile();
-            // Check if projectile intersects with the enemy hit box.
-            for (Enemy enemy: enemyManager.getEnemyList()) {
-                if (projectile.getHitBox().intersects(enemy.getHitBox()) && !projectile.getHasDealtDamage()) {
+            // Check if projectile intersects with the hit box of a nearby enemy, dealing damage only once.
+            if (!projectile.getHasDealtDamage()) {
+                Enemy enemy = enemyManager.getFirstEnemyHit(projectile.getHitBox());
+                if (enemy != null) {
                     projectile.setIsExploding(true);
                     projectile.setHasDealtDamage(true);
-                    enemy.initiateDamage(1);
+                    enemy.initiateDamage(projectile.getDamageValue());
                 }
             }
             // Check if projectile is on a collision tile or goes out of boundaries.
-            if (PlayUtils.isProjectileOnCollision(projectile, level, tileManager)) {
+            if (PlayUtils.isProjectileOnCollision(projectile, level)) {
                 projectile.setIsExploding(true);
             }
         }
     }
 
     /**
-     * renderPlayerProjectiles displays the projectiles created by the player on the game screen.
-     * @param graphics  The graphics object that draws images on the game screen.
-     * @param xOffset   The x-value offset of the entity on the game screen.
-     * @param yOffset   The y-value offset of the entity on the game screen.
+     * getPlayerProjectiles fetches the projectiles created by the player.
+     * @return Returns an ArrayList<Projectile> containing the active projectiles of the player.
+     */
+    public ArrayList<Projectile> getPlayerProjectiles() {
+        return playerProjectiles;
+    }
+
+    /**
+     * capturePlayerProjectiles stores the drawable state of the projectiles created by the player.
+     * @param snapshot The frame snapshot to be filled with the state of the projectiles.
      */
-    public void renderPlayerProjectiles(Graphics2D graphics, double xOffset, double yOffset) {
-        if (playerProjectiles.isEmpty()) return;
+    public void capturePlayerProjectiles(FrameSnapshot snapshot) {
         for (Projectile projectile : playerProjectiles) {
-            projectile.renderProjectile(graphics, xOffset, yOffset);
+            projectile.captureSnapshot(snapshot.addProjectile());
         }
     }
 }
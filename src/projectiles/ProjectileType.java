@@ -0,0 +1,111 @@
+package projectiles;
+
+import utility.Atlas;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * The ProjectileType enum contains the shared definitions of each kind of
+ * projectile in the game. The animation frames of a type are extracted once,
+ * when the type is first used, and shared by every projectile of that type.
+ */
+public enum ProjectileType {
+    /**The fire projectile shot by the player.*/
+    FIRE(Atlas.FIRE_PROJECTILE, Atlas.FIRE_EXPLOSION, 3.2f, 20, 1, 0.08f, 0.04f);
+
+    /**The set of animation frames used for the projectile as it is shot.*/
+    private final BufferedImage[] shootAnimations;
+    /**The set of animation frames used for the projectile as it explodes.*/
+    private final BufferedImage[] explosionAnimations;
+    /**The speed of the projectile in pixels per update.*/
+    private final float speed;
+    /**The width and height of the hit box of the projectile.*/
+    private final int hitBoxSize;
+    /**The damage value of the projectile.*/
+    private final int damageValue;
+    /**The increase of the shoot animation counter per update.*/
+    private final float shootAnimationSpeed;
+    /**The increase of the explosion animation counter per update.*/
+    private final float explosionAnimationSpeed;
+
+    /**
+     * ProjectileType defines a kind of projectile.
+     * @param shootAnimationPath        The file path of the animation of the projectile as it is shot.
+     * @param explosionAnimationPath    The file path of the animation of the projectile as it explodes.
+     * @param speed                     The speed of the projectile in pixels per update.
+     * @param hitBoxSize                The width and height of the hit box of the projectile.
+     * @param damageValue               The damage value of the projectile.
+     * @param shootAnimationSpeed       The increase of the shoot animation counter per update.
+     * @param explosionAnimationSpeed   The increase of the explosion animation counter per update.
+     */
+    ProjectileType(String shootAnimationPath, String explosionAnimationPath, float speed, int hitBoxSize, int damageValue,
+                   float shootAnimationSpeed, float explosionAnimationSpeed) {
+        this.shootAnimations = Atlas.extractAnimationImages(shootAnimationPath, 16, 16);
+        this.explosionAnimations = Atlas.extractAnimationImages(explosionAnimationPath, 16, 16);
+        this.speed = speed;
+        this.hitBoxSize = hitBoxSize;
+        this.damageValue = damageValue;
+        this.shootAnimationSpeed = shootAnimationSpeed;
+        this.explosionAnimationSpeed = explosionAnimationSpeed;
+    }
+
+    /**
+     * getShootAnimation fetches an animation frame of the projectile as it is shot.
+     * @param counter The animation counter of the projectile, clamped to the last frame.
+     * @return Returns the BufferedImage of the animation frame.
+     */
+    BufferedImage getShootAnimation(float counter) {
+        return shootAnimations[Math.min((int) counter, shootAnimations.length-1)];
+    }
+
+    /**
+     * getExplosionAnimation fetches an animation frame of the projectile as it explodes.
+     * @param counter The animation counter of the projectile, clamped to the last frame.
+     * @return Returns the BufferedImage of the animation frame.
+     */
+    BufferedImage getExplosionAnimation(float counter) {
+        return explosionAnimations[Math.min((int) counter, explosionAnimations.length-1)];
+    }
+
+    /**
+     * getShootFrameCount fetches the number of animation frames of the projectile as it is shot.
+     * @return Returns the number of shoot animation frames.
+     */
+    int getShootFrameCount() {return shootAnimations.length;}
+
+    /**
+     * getExplosionFrameCount fetches the number of animation frames of the projectile as it explodes.
+     * @return Returns the number of explosion animation frames.
+     */
+    int getExplosionFrameCount() {return explosionAnimations.length;}
+
+    /**
+     * getSpeed fetches the speed of the projectile.
+     * @return Returns the speed of the projectile in pixels per update.
+     */
+    public float getSpeed() {return speed;}
+
+    /**
+     * getHitBoxSize fetches the width and height of the hit box of the projectile.
+     * @return Returns the size of the hit box of the projectile.
+     */
+    public int getHitBoxSize() {return hitBoxSize;}
+
+    /**
+     * getDamageValue fetches the damage value of the projectile.
+     * @return Returns the damage value of the projectile.
+     */
+    public int getDamageValue() {return damageValue;}
+
+    /**
+     * getShootAnimationSpeed fetches the increase of the shoot animation counter per update.
+     * @return Returns the shoot animation speed of the projectile.
+     */
+    public float getShootAnimationSpeed() {return shootAnimationSpeed;}
+
+    /**
+     * getExplosionAnimationSpeed fetches the increase of the explosion animation counter per update.
+     * @return Returns the explosion animation speed of the projectile.
+     */
+    public float getExplosionAnimationSpeed() {return explosionAnimationSpeed;}
+}
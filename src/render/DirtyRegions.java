@@ -0,0 +1,89 @@
+package render;
+
+import java.awt.*;
+
+/**
+ * The DirtyRegions class collects the rectangles of a screen whose content
+ * changed since it was last drawn. Overlapping rectangles are merged, and
+ * once too many are collected the whole screen is marked dirty instead.
+ * Used by the render thread only.
+ */
+public class DirtyRegions {
+    /**The largest number of separate dirty rectangles kept before the whole screen is marked dirty.*/
+    private static final int MAX_REGIONS = 8;
+    /**The dirty rectangles, of which the first regionCount are in use.*/
+    private final Rectangle[] regions = new Rectangle[MAX_REGIONS];
+    /**The number of dirty rectangles in use.*/
+    private int regionCount;
+    /**The condition determining if the whole screen must be drawn again.*/
+    private boolean isFullRepaint = true;
+
+    /**
+     * DirtyRegions initializes an empty set of dirty rectangles, with the whole screen marked dirty.
+     */
+    public DirtyRegions() {
+        for (int i = 0; i < MAX_REGIONS; i++) {
+            regions[i] = new Rectangle();
+        }
+    }
+
+    /**
+     * markDirty adds a rectangle whose content changed, merging it with any dirty rectangle it overlaps.
+     * @param region The rectangle of the screen whose content changed.
+     */
+    public void markDirty(Rectangle region) {
+        if (isFullRepaint || region.isEmpty()) return;
+        for (int i = 0; i < regionCount; i++) {
+            if (regions[i].intersects(region)) {
+                regions[i].add(region);
+                return;
+            }
+        }
+        if (regionCount == MAX_REGIONS) {
+            markFullRepaint();
+            return;
+        }
+        regions[regionCount++].setBounds(region);
+    }
+
+    /**
+     * markFullRepaint marks the whole screen dirty.
+     */
+    public void markFullRepaint() {
+        isFullRepaint = true;
+        regionCount = 0;
+    }
+
+    /**
+     * clear marks the screen as drawn, leaving nothing dirty.
+     */
+    public void clear() {
+        isFullRepaint = false;
+        regionCount = 0;
+    }
+
+    /**
+     * isFullRepaint fetches the condition determining if the whole screen must be drawn again.
+     * @return Returns true if the whole screen is dirty.
+     */
+    public boolean isFullRepaint() {return isFullRepaint;}
+
+    /**
+     * isEmpty checks if nothing on the screen is dirty.
+     * @return Returns true if no rectangle is dirty and the whole screen is not marked dirty.
+     */
+    public boolean isEmpty() {return !isFullRepaint && regionCount == 0;}
+
+    /**
+     * getRegionCount fetches the number of separate dirty rectangles.
+     * @return Returns the number of dirty rectangles, or 0 if the whole screen is dirty.
+     */
+    public int getRegionCount() {return regionCount;}
+
+    /**
+     * getRegion fetches a dirty rectangle.
+     * @param index The index of the dirty rectangle, below getRegionCount.
+     * @return Returns the dirty rectangle at the given index.
+     */
+    public Rectangle getRegion(int index) {return regions[index];}
+}
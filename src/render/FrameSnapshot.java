@@ -0,0 +1,171 @@
+package render;
+
+import gamestate.GameState;
+import level.Level;
+import loading.Loading;
+
+import java.util.Arrays;
+
+/**
+ * The FrameSnapshot class contains everything the render thread needs to
+ * draw a frame of the game, captured by the game thread at the end of an update.
+ * Its sprite slots are reused between updates so capturing does not allocate
+ * once the slots have grown to the number of sprites in the level.
+ */
+public class FrameSnapshot {
+    /**The state of the game when the snapshot was captured.*/
+    private GameState state = GameState.MENU;
+    /**The System.nanoTime() value when the snapshot was published.*/
+    private long publishTime;
+    /**Determines if the renderer blends the previous and current state of the snapshot.*/
+    private boolean isInterpolated;
+    /**The x-value offset of the game screen at the end of the previous update.*/
+    private double previousXOffset;
+    /**The y-value offset of the game screen at the end of the previous update.*/
+    private double previousYOffset;
+    /**The x-value offset of the game screen at the end of the current update.*/
+    private double xOffset;
+    /**The y-value offset of the game screen at the end of the current update.*/
+    private double yOffset;
+    /**The current level of the game.*/
+    private Level level;
+    /**The drawable state of the player.*/
+    private final SpriteSnapshot player = new SpriteSnapshot();
+    /**Determines if the player is displayed.*/
+    private boolean isPlayerVisible;
+    /**The drawable state of the enemies in the level.*/
+    private SpriteSnapshot[] enemies = new SpriteSnapshot[0];
+    /**The number of enemies captured in the snapshot.*/
+    private int enemyCount;
+    /**The drawable state of the projectiles in the level.*/
+    private SpriteSnapshot[] projectiles = new SpriteSnapshot[0];
+    /**The number of projectiles captured in the snapshot.*/
+    private int projectileCount;
+    /**The loading screen being displayed, or null if the level is not loading.*/
+    private Loading loading;
+    /**The alpha value of the loading text.*/
+    private int loadingAlpha;
+    /**Determines if the game is paused.*/
+    private boolean isPaused;
+    /**Determines if the game is over.*/
+    private boolean isGameOver;
+
+    /**
+     * clearSprites removes the captured enemies and projectiles of the snapshot.
+     */
+    public void clearSprites() {
+        enemyCount = 0;
+        projectileCount = 0;
+    }
+
+    /**
+     * addEnemy fetches the next free enemy slot of the snapshot.
+     * @return Returns the SpriteSnapshot to be filled with the state of an enemy.
+     */
+    public SpriteSnapshot addEnemy() {
+        if (enemyCount == enemies.length) enemies = grow(enemies);
+        return enemies[enemyCount++];
+    }
+
+    /**
+     * addProjectile fetches the next free projectile slot of the snapshot.
+     * @return Returns the SpriteSnapshot to be filled with the state of a projectile.
+     */
+    public SpriteSnapshot addProjectile() {
+        if (projectileCount == projectiles.length) projectiles = grow(projectiles);
+        return projectiles[projectileCount++];
+    }
+
+    /**
+     * grow doubles the number of slots of a sprite array.
+     * @param sprites The sprite array to grow.
+     * @return Returns a copy of the sprite array with new empty slots.
+     */
+    private static SpriteSnapshot[] grow(SpriteSnapshot[] sprites) {
+        SpriteSnapshot[] grown = Arrays.copyOf(sprites, Math.max(8, sprites.length*2));
+        for (int i = sprites.length; i < grown.length; i++) {
+            grown[i] = new SpriteSnapshot();
+        }
+        return grown;
+    }
+
+    /**
+     * setOffsets stores the previous and current offsets of the game screen.
+     * @param previousXOffset   The x-value offset at the end of the previous update.
+     * @param previousYOffset   The y-value offset at the end of the previous update.
+     * @param xOffset           The x-value offset at the end of the current update.
+     * @param yOffset           The y-value offset at the end of the current update.
+     */
+    public void setOffsets(double previousXOffset, double previousYOffset, double xOffset, double yOffset) {
+        this.previousXOffset = previousXOffset;
+        this.previousYOffset = previousYOffset;
+        this.xOffset = xOffset;
+        this.yOffset = yOffset;
+    }
+
+    /**
+     * setLoading stores the loading screen being displayed.
+     * @param loading       The loading screen being displayed, or null if the level is not loading.
+     * @param loadingAlpha  The alpha value of the loading text.
+     */
+    public void setLoading(Loading loading, int loadingAlpha) {
+        this.loading = loading;
+        this.loadingAlpha = loadingAlpha;
+    }
+
+    /**
+     * getXOffset fetches the x-value offset of the game screen blended by the given fraction.
+     * @param alpha The fraction of the current update elapsed.
+     * @return Returns the blended x-value offset.
+     */
+    public double getXOffset(float alpha) {return previousXOffset + (xOffset - previousXOffset)*alpha;}
+
+    /**
+     * getYOffset fetches the y-value offset of the game screen blended by the given fraction.
+     * @param alpha The fraction of the current update elapsed.
+     * @return Returns the blended y-value offset.
+     */
+    public double getYOffset(float alpha) {return previousYOffset + (yOffset - previousYOffset)*alpha;}
+
+    public GameState getState() {return state;}
+
+    public void setState(GameState state) {this.state = state;}
+
+    public long getPublishTime() {return publishTime;}
+
+    public void setPublishTime(long publishTime) {this.publishTime = publishTime;}
+
+    public boolean isInterpolated() {return isInterpolated;}
+
+    public void setIsInterpolated(boolean isInterpolated) {this.isInterpolated = isInterpolated;}
+
+    public Level getLevel() {return level;}
+
+    public void setLevel(Level level) {this.level = level;}
+
+    public SpriteSnapshot getPlayer() {return player;}
+
+    public boolean isPlayerVisible() {return isPlayerVisible;}
+
+    public void setIsPlayerVisible(boolean isPlayerVisible) {this.isPlayerVisible = isPlayerVisible;}
+
+    public SpriteSnapshot getEnemy(int index) {return enemies[index];}
+
+    public int getEnemyCount() {return enemyCount;}
+
+    public SpriteSnapshot getProjectile(int index) {return projectiles[index];}
+
+    public int getProjectileCount() {return projectileCount;}
+
+    public Loading getLoading() {return loading;}
+
+    public int getLoadingAlpha() {return loadingAlpha;}
+
+    public boolean isPaused() {return isPaused;}
+
+    public void setIsPaused(boolean isPaused) {this.isPaused = isPaused;}
+
+    public boolean isGameOver() {return isGameOver;}
+
+    public void setIsGameOver(boolean isGameOver) {this.isGameOver = isGameOver;}
+}
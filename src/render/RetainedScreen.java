@@ -0,0 +1,93 @@
+package render;
+
+import text.InteractiveText;
+import utility.ImageUtils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+/**
+ * The RetainedScreen class keeps the content of a static screen, such as the
+ * menu, the credits or an overlay, in an image that outlives the frame. Only the
+ * dirty regions of the image are drawn again, and the image is shown with a single
+ * blit. Used by the render thread only.
+ */
+public class RetainedScreen {
+    /**The width of the screen in pixels.*/
+    private final int width;
+    /**The height of the screen in pixels.*/
+    private final int height;
+    /**Draws the whole content of the screen, clipped to the region being drawn again.*/
+    private final Consumer<Graphics2D> contents;
+    /**The regions of the screen whose content changed since it was last drawn.*/
+    private final DirtyRegions dirtyRegions = new DirtyRegions();
+    /**The retained content of the screen, or null until it is first drawn.*/
+    private BufferedImage image;
+
+    /**
+     * RetainedScreen initializes a retained screen, with the whole screen marked dirty.
+     * @param width     The width of the screen in pixels.
+     * @param height    The height of the screen in pixels.
+     * @param contents  Draws the whole content of the screen over a black background.
+     */
+    public RetainedScreen(int width, int height, Consumer<Graphics2D> contents) {
+        this.width = width;
+        this.height = height;
+        this.contents = contents;
+    }
+
+    /**
+     * updateText advances the blinking effect of an interactive text drawn on the screen,
+     * and marks the region of the text dirty if its color changed since it was last drawn.
+     * @param text The interactive text drawn on the screen.
+     */
+    public void updateText(InteractiveText text) {
+        text.updateBlinking();
+        if (text.isRedrawNeeded()) dirtyRegions.markDirty(text.getImageBounds(width));
+    }
+
+    /**
+     * invalidate marks the whole screen dirty, so it is drawn again in full on the next frame.
+     */
+    public void invalidate() {
+        dirtyRegions.markFullRepaint();
+    }
+
+    /**
+     * render draws the dirty regions of the screen again and shows the retained content on the game screen.
+     * @param graphics The graphics object that draws images on the game screen.
+     */
+    public void render(Graphics graphics) {
+        if (!dirtyRegions.isEmpty()) {
+            if (image == null) image = ImageUtils.createCompatibleImage(width, height, Transparency.OPAQUE);
+            Graphics2D imageGraphics = image.createGraphics();
+            if (dirtyRegions.isFullRepaint()) {
+                drawRegion(imageGraphics, 0, 0, width, height);
+            } else {
+                for (int i = 0; i < dirtyRegions.getRegionCount(); i++) {
+                    Rectangle region = dirtyRegions.getRegion(i);
+                    drawRegion(imageGraphics, region.x, region.y, region.width, region.height);
+                }
+            }
+            imageGraphics.dispose();
+            dirtyRegions.clear();
+        }
+        graphics.drawImage(image, 0, 0, null);
+    }
+
+    /**
+     * drawRegion clears a region of the retained image and draws the content of the screen within it.
+     * @param graphics  The graphics object that draws on the retained image.
+     * @param x         The x-coordinate of the region.
+     * @param y         The y-coordinate of the region.
+     * @param width     The width of the region.
+     * @param height    The height of the region.
+     */
+    private void drawRegion(Graphics2D graphics, int x, int y, int width, int height) {
+        graphics.setClip(x, y, width, height);
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(x, y, width, height);
+        contents.accept(graphics);
+    }
+}
@@ -0,0 +1,44 @@
+package render;
+
+import java.util.Locale;
+
+/**
+ * The ScaleMode enum determines how the frame, composed at the fixed resolution
+ * of the game screen, is scaled to fill the game window.
+ */
+public enum ScaleMode {
+    /**Scales the frame by the largest whole multiple fitting the window, so every frame pixel covers the same number of window pixels.*/
+    INTEGER,
+    /**Scales the frame to fill as much of the window as its aspect ratio allows.*/
+    FIT;
+
+    /**
+     * fromName finds the scale mode of the given name, ignoring case. An unknown name falls back to FIT,
+     * so a mistyped robotoscape.scale property does not stop the game from starting.
+     * @param name The name of the scale mode, integer or fit.
+     * @return Returns the scale mode of the name, or FIT if there is none.
+     */
+    public static ScaleMode fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown scale mode " + name + ", scaling to fit.");
+            return FIT;
+        }
+    }
+
+    /**
+     * getScale determines the scale of the frame in a window of the given size. A window smaller
+     * than the frame always shrinks the frame to fit, as no whole multiple fits it.
+     * @param frameWidth    The width of the frame in pixels.
+     * @param frameHeight   The height of the frame in pixels.
+     * @param windowWidth   The width of the window in pixels.
+     * @param windowHeight  The height of the window in pixels.
+     * @return Returns the factor the frame is scaled by.
+     */
+    public double getScale(int frameWidth, int frameHeight, int windowWidth, int windowHeight) {
+        double fitScale = Math.min((double) windowWidth / frameWidth, (double) windowHeight / frameHeight);
+        if (this == INTEGER && fitScale >= 1) return Math.floor(fitScale);
+        return fitScale;
+    }
+}
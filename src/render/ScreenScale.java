@@ -0,0 +1,57 @@
+package render;
+
+/**
+ * The ScreenScale record is the placement of the scaled frame in the game window.
+ * It is replaced rather than changed when the window is resized, so the render
+ * thread drawing the frame and the event thread reading the mouse always see a
+ * consistent placement.
+ * @param scale     The factor the frame is scaled by.
+ * @param x         The x-coordinate of the scaled frame in the window.
+ * @param y         The y-coordinate of the scaled frame in the window.
+ * @param width     The width of the scaled frame in pixels.
+ * @param height    The height of the scaled frame in pixels.
+ */
+public record ScreenScale(double scale, int x, int y, int width, int height) {
+
+    /**
+     * of places a frame in a window of the given size, centered and scaled by the given mode.
+     * @param mode          The mode the frame is scaled by.
+     * @param frameWidth    The width of the frame in pixels.
+     * @param frameHeight   The height of the frame in pixels.
+     * @param windowWidth   The width of the window in pixels.
+     * @param windowHeight  The height of the window in pixels.
+     * @return Returns the placement of the frame in the window.
+     */
+    public static ScreenScale of(ScaleMode mode, int frameWidth, int frameHeight, int windowWidth, int windowHeight) {
+        double scale = mode.getScale(frameWidth, frameHeight, windowWidth, windowHeight);
+        int width = (int) Math.round(frameWidth * scale);
+        int height = (int) Math.round(frameHeight * scale);
+        return new ScreenScale(scale, (windowWidth - width) / 2, (windowHeight - height) / 2, width, height);
+    }
+
+    /**
+     * isIdentity checks if the frame covers the window pixel for pixel, so it can be drawn without scaling.
+     * @return Returns true if the frame is neither scaled nor moved.
+     */
+    public boolean isIdentity() {
+        return scale == 1 && x == 0 && y == 0;
+    }
+
+    /**
+     * toFrameX maps an x-coordinate of the window to the frame.
+     * @param windowX The x-coordinate in the window.
+     * @return Returns the x-coordinate in the frame.
+     */
+    public int toFrameX(int windowX) {
+        return (int) Math.floor((windowX - x) / scale);
+    }
+
+    /**
+     * toFrameY maps a y-coordinate of the window to the frame.
+     * @param windowY The y-coordinate in the window.
+     * @return Returns the y-coordinate in the frame.
+     */
+    public int toFrameY(int windowY) {
+        return (int) Math.floor((windowY - y) / scale);
+    }
+}
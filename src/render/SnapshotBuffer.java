@@ -0,0 +1,51 @@
+package render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The SnapshotBuffer class hands frame snapshots from the game thread to the
+ * render thread without locks. The game thread fills the back snapshot and
+ * publishes it, while the render thread reads the front snapshot. A third
+ * snapshot is exchanged between the two through a single atomic swap, so
+ * neither thread ever writes or reads a snapshot the other is using.
+ */
+public class SnapshotBuffer {
+    /**The bit marking the exchanged snapshot as published but not yet read.*/
+    private static final int FRESH = 0b100;
+    /**The bits holding the index of the exchanged snapshot.*/
+    private static final int INDEX_MASK = 0b011;
+    /**The three snapshots rotated between the game thread and the render thread.*/
+    private final FrameSnapshot[] snapshots = {new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()};
+    /**The index of the exchanged snapshot and its FRESH bit.*/
+    private final AtomicInteger exchange = new AtomicInteger(1);
+    /**The index of the snapshot written by the game thread.*/
+    private int backIndex = 0;
+    /**The index of the snapshot read by the render thread.*/
+    private int frontIndex = 2;
+
+    /**
+     * getBack fetches the snapshot to be filled by the game thread.
+     * @return Returns the back FrameSnapshot.
+     */
+    public FrameSnapshot getBack() {
+        return snapshots[backIndex];
+    }
+
+    /**
+     * publish hands the filled back snapshot to the render thread. Called by the game thread.
+     */
+    public void publish() {
+        backIndex = exchange.getAndSet(backIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * getFront fetches the latest published snapshot. Called by the render thread.
+     * @return Returns the front FrameSnapshot.
+     */
+    public FrameSnapshot getFront() {
+        if ((exchange.get() & FRESH) != 0) {
+            frontIndex = exchange.getAndSet(frontIndex) & INDEX_MASK;
+        }
+        return snapshots[frontIndex];
+    }
+}
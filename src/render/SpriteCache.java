@@ -0,0 +1,87 @@
+package render;
+
+import utility.ImageUtils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The SpriteCache class holds the animation frames of sprites already scaled to
+ * their displayed size and mirrored for each facing direction, in the format of
+ * the screen, so drawing a sprite is a 1:1 blit. Frames are prepared the first
+ * time they are drawn and dropped once their source frame is no longer used.
+ * Used by the render thread only.
+ */
+public class SpriteCache {
+    /**The prepared images of each source animation frame.*/
+    private final Map<BufferedImage, PreparedFrame> preparedFrames = new WeakHashMap<>();
+
+    /**
+     * PreparedFrame contains the prepared images of a source animation frame at one displayed size.
+     */
+    private static class PreparedFrame {
+        /**The displayed width of the prepared images.*/
+        private final int width;
+        /**The displayed height of the prepared images.*/
+        private final int height;
+        /**The frame scaled and facing right, or null until it is first drawn.*/
+        private BufferedImage facingRight;
+        /**The frame scaled and mirrored to face left, or null until it is first drawn.*/
+        private BufferedImage facingLeft;
+
+        PreparedFrame(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * getSprite fetches an animation frame scaled to the given size and facing the given direction.
+     * @param frame         The source animation frame.
+     * @param width         The displayed width of the sprite.
+     * @param height        The displayed height of the sprite.
+     * @param facingRight   The condition determining if the sprite is facing right.
+     * @return Returns the prepared BufferedImage, to be drawn without scaling.
+     */
+    public BufferedImage getSprite(BufferedImage frame, int width, int height, boolean facingRight) {
+        PreparedFrame preparedFrame = preparedFrames.get(frame);
+        if (preparedFrame == null || preparedFrame.width != width || preparedFrame.height != height) {
+            preparedFrame = new PreparedFrame(width, height);
+            preparedFrames.put(frame, preparedFrame);
+        }
+        if (facingRight) {
+            if (preparedFrame.facingRight == null) preparedFrame.facingRight = prepare(frame, width, height, true);
+            return preparedFrame.facingRight;
+        }
+        if (preparedFrame.facingLeft == null) preparedFrame.facingLeft = prepare(frame, width, height, false);
+        return preparedFrame.facingLeft;
+    }
+
+    /**
+     * prepare draws a source animation frame scaled, and mirrored if facing left, into a new image.
+     * @param frame         The source animation frame.
+     * @param width         The displayed width of the sprite.
+     * @param height        The displayed height of the sprite.
+     * @param facingRight   The condition determining if the sprite is facing right.
+     * @return Returns the prepared BufferedImage.
+     */
+    private BufferedImage prepare(BufferedImage frame, int width, int height, boolean facingRight) {
+        BufferedImage sprite = ImageUtils.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D graphics = sprite.createGraphics();
+        if (facingRight) {
+            graphics.drawImage(frame, 0, 0, width, height, null);
+        } else {
+            graphics.drawImage(frame, width, 0, -width, height, null);
+        }
+        graphics.dispose();
+        return sprite;
+    }
+
+    /**
+     * size fetches the number of source animation frames with prepared images.
+     * @return Returns the number of cached frames.
+     */
+    public int size() {return preparedFrames.size();}
+}
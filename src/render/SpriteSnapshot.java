@@ -0,0 +1,112 @@
+package render;
+
+import hearts.Hearts;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The SpriteSnapshot class contains the drawable state of a single
+ * sprite at the end of an update, as it is published to the render thread.
+ */
+public class SpriteSnapshot {
+    /**The composites sprites are drawn with, indexed by opacity in steps of 1/255 and created on first use.*/
+    private static final AlphaComposite[] COMPOSITES = new AlphaComposite[256];
+    /**The current animation frame of the sprite.*/
+    private BufferedImage image;
+    /**The x-coordinate position of the sprite at the end of the previous update.*/
+    private float previousX;
+    /**The y-coordinate position of the sprite at the end of the previous update.*/
+    private float previousY;
+    /**The x-coordinate position of the sprite at the end of the current update.*/
+    private float x;
+    /**The y-coordinate position of the sprite at the end of the current update.*/
+    private float y;
+    /**The displayed width of the sprite in pixels.*/
+    private int width;
+    /**The displayed height of the sprite in pixels.*/
+    private int height;
+    /**The condition determining if the sprite is facing right.*/
+    private boolean facingRight;
+    /**The alpha value the sprite is drawn with.*/
+    private float opacity;
+    /**The number of hearts displayed above the sprite.*/
+    private int numberOfHearts;
+    /**The center x-coordinate of the hearts displayed above the sprite.*/
+    private float heartsCenterX;
+    /**The top y-coordinate of the sprite the hearts are displayed above.*/
+    private float heartsTopY;
+
+    /**
+     * set stores the drawable state of the sprite. The hearts of the sprite are cleared.
+     * @param image         The current animation frame of the sprite.
+     * @param previousX     The x-coordinate position of the sprite at the end of the previous update.
+     * @param previousY     The y-coordinate position of the sprite at the end of the previous update.
+     * @param x             The x-coordinate position of the sprite at the end of the current update.
+     * @param y             The y-coordinate position of the sprite at the end of the current update.
+     * @param width         The displayed width of the sprite in pixels.
+     * @param height        The displayed height of the sprite in pixels.
+     * @param facingRight   The condition determining if the sprite is facing right.
+     * @param opacity       The alpha value the sprite is drawn with.
+     */
+    public void set(BufferedImage image, float previousX, float previousY, float x, float y, int width, int height, boolean facingRight, float opacity) {
+        this.image = image;
+        this.previousX = previousX;
+        this.previousY = previousY;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.facingRight = facingRight;
+        this.opacity = opacity;
+        this.numberOfHearts = 0;
+    }
+
+    /**
+     * setHearts stores the hearts displayed above the sprite.
+     * @param numberOfHearts    The number of hearts displayed above the sprite.
+     * @param centerX           The center x-coordinate of the hearts.
+     * @param topY              The top y-coordinate of the sprite the hearts are displayed above.
+     */
+    public void setHearts(int numberOfHearts, float centerX, float topY) {
+        this.numberOfHearts = numberOfHearts;
+        this.heartsCenterX = centerX;
+        this.heartsTopY = topY;
+    }
+
+    /**
+     * getComposite fetches the interned composite drawing with the given opacity. The opacity is rounded
+     * to the 8-bit precision the screen blends with.
+     * @param opacity The alpha value the sprite is drawn with.
+     * @return Returns the AlphaComposite of the opacity.
+     */
+    private static AlphaComposite getComposite(float opacity) {
+        int index = Math.round(Math.min(Math.max(opacity, 0.0f), 1.0f) * 255);
+        AlphaComposite composite = COMPOSITES[index];
+        if (composite == null) {
+            composite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, index / 255.0f);
+            COMPOSITES[index] = composite;
+        }
+        return composite;
+    }
+
+    /**
+     * renderSprite displays the sprite and its hearts on the game screen, unless they are outside the viewport.
+     * @param graphics  The graphics object that draws images on the game screen.
+     * @param viewport  The rectangle of the level visible on the game screen.
+     * @param sprites   The cache of animation frames prepared at their displayed size and direction.
+     * @param alpha     The fraction of the current update elapsed, used to blend the previous and current position.
+     */
+    public void renderSprite(Graphics2D graphics, Viewport viewport, SpriteCache sprites, float alpha) {
+        double xOffset = viewport.getX();
+        double yOffset = viewport.getY();
+        float drawX = previousX + (x - previousX)*alpha;
+        float drawY = previousY + (y - previousY)*alpha;
+        if (viewport.isVisible(drawX, drawY, width, height)) {
+            graphics.setComposite(getComposite(opacity));
+            graphics.drawImage(sprites.getSprite(image, width, height, facingRight), (int) (drawX -xOffset), (int) (drawY -yOffset), null);
+        }
+        // Shifts the offsets so the hearts follow the blended position of the sprite.
+        Hearts.displayHearts(graphics, viewport, numberOfHearts, heartsCenterX, heartsTopY, xOffset + x - drawX, yOffset + y - drawY);
+    }
+}
@@ -0,0 +1,104 @@
+package render;
+
+/**
+ * The Viewport class is the rectangle of the level visible on the game screen
+ * for the frame being drawn. Renderers ask it whether their components are
+ * visible before drawing them, and it counts the components drawn and culled
+ * during the frame. Used by the render thread only.
+ */
+public class Viewport {
+    /**The x-coordinate of the left edge of the viewport in the level.*/
+    private double x;
+    /**The y-coordinate of the top edge of the viewport in the level.*/
+    private double y;
+    /**The width of the viewport in pixels.*/
+    private int width;
+    /**The height of the viewport in pixels.*/
+    private int height;
+    /**The number of components drawn during the frame.*/
+    private int drawn;
+    /**The number of components skipped for being outside the viewport during the frame.*/
+    private int culled;
+
+    /**
+     * set places the viewport for a new frame and clears its counters.
+     * @param x         The x-value offset of the game screen in the level.
+     * @param y         The y-value offset of the game screen in the level.
+     * @param width     The width of the game screen.
+     * @param height    The height of the game screen.
+     */
+    public void set(double x, double y, int width, int height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.drawn = 0;
+        this.culled = 0;
+    }
+
+    /**
+     * isVisible checks if a rectangle of the level overlaps the viewport, and counts it as drawn or culled.
+     * @param left      The x-coordinate of the left edge of the rectangle in the level.
+     * @param top       The y-coordinate of the top edge of the rectangle in the level.
+     * @param width     The width of the rectangle.
+     * @param height    The height of the rectangle.
+     * @return Returns true if the rectangle should be drawn.
+     */
+    public boolean isVisible(double left, double top, double width, double height) {
+        return isOnScreen(left - x, top - y, width, height);
+    }
+
+    /**
+     * isOnScreen checks if a rectangle of the game screen overlaps the viewport, and counts it as drawn or culled.
+     * @param left      The x-coordinate of the left edge of the rectangle on the game screen.
+     * @param top       The y-coordinate of the top edge of the rectangle on the game screen.
+     * @param width     The width of the rectangle.
+     * @param height    The height of the rectangle.
+     * @return Returns true if the rectangle should be drawn.
+     */
+    public boolean isOnScreen(double left, double top, double width, double height) {
+        boolean isVisible = left < this.width && left + width > 0 && top < this.height && top + height > 0;
+        if (isVisible) {
+            drawn++;
+        } else {
+            culled++;
+        }
+        return isVisible;
+    }
+
+    /**
+     * getX fetches the x-coordinate of the left edge of the viewport in the level.
+     * @return Returns the x-value offset of the game screen.
+     */
+    public double getX() {return x;}
+
+    /**
+     * getY fetches the y-coordinate of the top edge of the viewport in the level.
+     * @return Returns the y-value offset of the game screen.
+     */
+    public double getY() {return y;}
+
+    /**
+     * getWidth fetches the width of the viewport.
+     * @return Returns the width of the viewport in pixels.
+     */
+    public int getWidth() {return width;}
+
+    /**
+     * getHeight fetches the height of the viewport.
+     * @return Returns the height of the viewport in pixels.
+     */
+    public int getHeight() {return height;}
+
+    /**
+     * getDrawn fetches the number of components drawn during the frame.
+     * @return Returns the number of drawn components.
+     */
+    public int getDrawn() {return drawn;}
+
+    /**
+     * getCulled fetches the number of components skipped for being outside the viewport during the frame.
+     * @return Returns the number of culled components.
+     */
+    public int getCulled() {return culled;}
+}
@@ -1,8 +1,7 @@
 package text;
 
 import java.awt.*;
-
-import static utility.TextUtils.*;
+import java.awt.image.BufferedImage;
 
 /**
  * MenuInteractiveText is a class extending class MenuText,
@@ -13,14 +12,24 @@ public class InteractiveText extends RegularText {
 
     /**The interactive box surrounding the boundaries of the text.*/
     private Rectangle boundaryBox;
-    /**Determines if the boundary box of the interactive text is set.*/
-    private boolean isBoundaryBoxSet;
-    /**The color of the text.*/
-    private Color color;
-    /**The condition of the text as it is active when the mouse is overing the text.*/
-    private boolean isActive;
+    /**Determines if the boundary box of the interactive text is set. Written after the boundary box, so it is safely published to the game thread.*/
+    private volatile boolean isBoundaryBoxSet;
+    /**The screen width the boundary box was placed for.*/
+    private int boundaryScreenWidth;
+    /**The condition of the text as it is active when the mouse is overing the text. Written by the game thread and read by the render thread.*/
+    private volatile boolean isActive;
     /**Counter used to create blinking effect on menu text.*/
     protected float blinkingCounter;
+    /**The color state of the text for the current frame, latched by updateBlinking.*/
+    private int colorState;
+    /**The color state the text was last drawn in, or -1 if it has not been drawn.*/
+    private int drawnColorState = -1;
+    /**The rasterized text while inactive, or null until it is first drawn.*/
+    private BufferedImage inactiveImage;
+    /**The rasterized text while active and blinking yellow, or null until it is first drawn.*/
+    private BufferedImage yellowImage;
+    /**The rasterized text while active and blinking magenta, or null until it is first drawn.*/
+    private BufferedImage magentaImage;
 
     /**
      * MenuInteractiveText initializes the text with interactive properties displayed
@@ -33,23 +42,74 @@ public class InteractiveText extends RegularText {
      */
     public InteractiveText(int y, String text, int textSize, int alphaValue, String fontFamily) {
         super(y, text, textSize, alphaValue, fontFamily);
-        color = new Color(255, 255, 255, alphaValue);
     }
 
     @Override
     public void renderText(Graphics graphics, int screenWidth) {
+        updateBlinking();
+        drawText(graphics, screenWidth);
+    }
+
+    /**
+     * updateBlinking advances the blinking effect of the text by one frame, and latches the color
+     * state of the text for the frame so a hover change during the frame does not tear it.
+     */
+    public void updateBlinking() {
         blinkingCounter += 0.2;
         if (blinkingCounter > 5) blinkingCounter = 0;
-        color = (isActive && blinkingCounter < 2.5) ? Color.YELLOW : Color.MAGENTA;
-        if (!isActive) color = new Color(255, 255, 255, alphaValue);
-        int x = getTextCenterXPosition(text, font, graphics, screenWidth);
-        int widthText = getTextWidth(text, font, graphics);
-        int heightText = getTextHeight(text, font, graphics);
-        boundaryBox = new Rectangle(x, y-textSize, widthText, heightText);
-        isBoundaryBoxSet = true;
-        graphics.setFont(font);
-        graphics.setColor(color);
-        graphics.drawString(text, x, y);
+        colorState = isActive ? (blinkingCounter < 2.5 ? 1 : 2) : 0;
+    }
+
+    /**
+     * drawText displays the text on the game screen in the color of its current state, without advancing its blinking effect.
+     * @param graphics The graphics object that draws images on the game screen.
+     * @param screenWidth The width of the game screen in pixels.
+     */
+    public void drawText(Graphics graphics, int screenWidth) {
+        int x = getTextCenterXPosition(screenWidth);
+        if (!isBoundaryBoxSet || boundaryScreenWidth != screenWidth) {
+            boundaryBox = new Rectangle(x, y-textSize, textWidth, textHeight);
+            boundaryScreenWidth = screenWidth;
+            isBoundaryBoxSet = true;
+        }
+        drawnColorState = getColorState();
+        drawTextImage(graphics, getTextImage(drawnColorState), x);
+    }
+
+    /**
+     * isRedrawNeeded checks if the color of the text changed since it was last drawn.
+     * @return Returns true if the text must be drawn again.
+     */
+    public boolean isRedrawNeeded() {
+        return getColorState() != drawnColorState;
+    }
+
+    /**
+     * getColorState fetches the color the text is drawn in during the current frame.
+     * @return Returns 0 if the text is inactive, 1 if it is active and yellow, or 2 if it is active and magenta.
+     */
+    public int getColorState() {return colorState;}
+
+    /**
+     * getTextImage fetches the rasterized text in the color of the given state.
+     * @param colorState The color state of the text, as returned by getColorState.
+     * @return Returns the image of the text to draw.
+     */
+    private BufferedImage getTextImage(int colorState) {
+        switch (colorState) {
+            case 0 -> {
+                if (inactiveImage == null) inactiveImage = rasterizeText(new Color(255, 255, 255, alphaValue));
+                return inactiveImage;
+            }
+            case 1 -> {
+                if (yellowImage == null) yellowImage = rasterizeText(Color.YELLOW);
+                return yellowImage;
+            }
+            default -> {
+                if (magentaImage == null) magentaImage = rasterizeText(Color.MAGENTA);
+                return magentaImage;
+            }
+        }
     }
 
     /**
@@ -1,10 +1,12 @@
 package text;
 
 import utility.Atlas;
+import utility.ImageUtils;
 
 import java.awt.*;
-
-import static utility.TextUtils.getTextCenterXPosition;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
 /**
  * The class RegularText is used to create text
@@ -12,6 +14,8 @@ import static utility.TextUtils.getTextCenterXPosition;
  */
 public class RegularText {
 
+    /**The font render context the text is measured and rasterized with, matching the default of the game screen.*/
+    protected static final FontRenderContext FONT_RENDER_CONTEXT = new FontRenderContext(null, false, false);
     /**The y-coordinate position of the text.*/
     protected final int y;
     /**A String containing the text to be displayed.*/
@@ -22,6 +26,16 @@ public class RegularText {
     protected final int alphaValue;
     /**The font family of the text.*/
     protected final Font font;
+    /**The width of the text, measured once.*/
+    protected final int textWidth;
+    /**The height of the text, measured once.*/
+    protected final int textHeight;
+    /**The bounds of the rasterized text relative to the start of its baseline.*/
+    private final Rectangle imageBounds;
+    /**The rectangle of the game screen covered by the rasterized text, reused by each call to getImageBounds.*/
+    private final Rectangle screenImageBounds = new Rectangle();
+    /**The rasterized text, or null until it is first drawn.*/
+    private BufferedImage textImage;
 
     /**
      * RegularText initializes the text used in the game.
@@ -36,7 +50,14 @@ public class RegularText {
         this.text = text;
         this.textSize = textSize;
         this.alphaValue = alphaValue;
-        this.font = Atlas.getFont(fontFamily).deriveFont(Font.PLAIN, textSize);
+        this.font = Atlas.getFont(fontFamily, Font.PLAIN, textSize);
+        Rectangle2D stringBounds = font.getStringBounds(text, FONT_RENDER_CONTEXT);
+        this.textWidth = (int) stringBounds.getWidth();
+        this.textHeight = (int) stringBounds.getHeight();
+        // Italic glyphs can reach past the logical bounds of the text, so the visual bounds are included.
+        this.imageBounds = font.createGlyphVector(FONT_RENDER_CONTEXT, text).getPixelBounds(FONT_RENDER_CONTEXT, 0, 0)
+                .union(stringBounds.getBounds());
+        this.imageBounds.grow(1, 1);
     }
 
     /**
@@ -45,10 +66,53 @@ public class RegularText {
      * @param screenWidth The width of the game screen in pixels.
      */
     public void renderText(Graphics graphics, int screenWidth) {
-        Color color = new Color(255, 255, 255, alphaValue);
-        int x = getTextCenterXPosition(text, font, graphics, screenWidth);
+        if (textImage == null) textImage = rasterizeText(new Color(255, 255, 255, alphaValue));
+        drawTextImage(graphics, textImage, getTextCenterXPosition(screenWidth));
+    }
+
+    /**
+     * getTextCenterXPosition determines the x-coordinate position of the text as it is placed
+     * in the center of the game screen.
+     * @param screenWidth The width of the game screen in pixels.
+     * @return Returns the x-coordinate position of the start of the text.
+     */
+    protected int getTextCenterXPosition(int screenWidth) {
+        return (screenWidth - textWidth)/2;
+    }
+
+    /**
+     * getImageBounds determines the rectangle of the game screen covered by the rasterized text. The rectangle
+     * is reused by the next call, so callers must copy it rather than keep it.
+     * @param screenWidth The width of the game screen in pixels.
+     * @return Returns the bounds of the text as it is drawn on the game screen.
+     */
+    public Rectangle getImageBounds(int screenWidth) {
+        screenImageBounds.setBounds(getTextCenterXPosition(screenWidth) + imageBounds.x, y + imageBounds.y, imageBounds.width, imageBounds.height);
+        return screenImageBounds;
+    }
+
+    /**
+     * rasterizeText draws the text in the given color into a new image, so drawing the text is a single blit.
+     * @param color The color of the text.
+     * @return Returns the image of the text.
+     */
+    protected BufferedImage rasterizeText(Color color) {
+        BufferedImage image = ImageUtils.createCompatibleImage(imageBounds.width, imageBounds.height, Transparency.TRANSLUCENT);
+        Graphics2D graphics = image.createGraphics();
         graphics.setFont(font);
         graphics.setColor(color);
-        graphics.drawString(text, x, y);
+        graphics.drawString(text, -imageBounds.x, -imageBounds.y);
+        graphics.dispose();
+        return image;
+    }
+
+    /**
+     * drawTextImage draws a rasterized text with the start of its baseline at the given x-coordinate and the text's y-coordinate.
+     * @param graphics  The graphics object that draws images on the game screen.
+     * @param textImage The image of the text returned by rasterizeText.
+     * @param x         The x-coordinate position of the start of the text.
+     */
+    protected void drawTextImage(Graphics graphics, BufferedImage textImage, int x) {
+        graphics.drawImage(textImage, x + imageBounds.x, y + imageBounds.y, null);
     }
 }
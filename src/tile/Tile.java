@@ -6,6 +6,12 @@ import java.awt.image.BufferedImage;
  * The Tile class determines the state of a given tile of the game.
  */
 public class Tile {
+    /**The flag of a tile that restricts the movement of entities.*/
+    public static final byte SOLID = 1;
+    /**The flag of a tile that deals damage to the player.*/
+    public static final byte DAMAGE = 2;
+    /**The flag of a tile that is a door to the next level.*/
+    public static final byte DOOR = 4;
     /**The image of the tile.*/
     private final BufferedImage image;
     /**The condition determining if the tile allows collision.*/
@@ -2,7 +2,6 @@ package tile;
 
 import utility.Atlas;
 
-import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -17,6 +16,8 @@ public class TileManager {
     /**Stores a list of tiles that don't have collision properties.*/
     public static final ArrayList<Integer> tileMonochromeNonCollisions = new ArrayList<>(Arrays.asList(0,3,4,5,16,17,18,19,20,23,24,25,26,37,38,39,40,43,53,54,59,122,140,141,142,166,188,207,208,209,288));
     public static final ArrayList<Integer> tileMonochromeDamage = new ArrayList<>(Arrays.asList(122, 166));
+    /**The index of the tile that is a door.*/
+    private static final int DOOR_TILE = 59;
     /**
      * TileManager | Initializes the tile manager of the game.
      */
@@ -30,19 +31,32 @@ public class TileManager {
      */
     private void setupMapTiles() {
         // For mapTilesMonochrome
-        BufferedImage monochromeTilesetImage = Atlas.getSpriteAtlas(Atlas.LEVEL_MONOCHROME_TILESET);
         mapTilesMonochrome = new Tile[400];
         for (int row = 0; row < 20; row++) {
             for (int col = 0; col < 20; col++) {
                 int index = row * 20 + col;
-                boolean allowCollision = !tileMonochromeNonCollisions.contains(index);
-                boolean dealsDamage = tileMonochromeDamage.contains(index);
-                boolean isDoor = index == 59; // 59 is the index determining whether the tile is a door.
-                mapTilesMonochrome[index] = new Tile(monochromeTilesetImage.getSubimage(col * 16, row * 16, 16, 16), allowCollision, dealsDamage, isDoor);
+                byte flags = getTileFlags(index);
+                boolean allowCollision = (flags & Tile.SOLID) != 0;
+                boolean dealsDamage = (flags & Tile.DAMAGE) != 0;
+                boolean isDoor = (flags & Tile.DOOR) != 0;
+                mapTilesMonochrome[index] = new Tile(Atlas.getSpriteFrame(Atlas.LEVEL_MONOCHROME_TILESET, col * 16, row * 16, 16, 16), allowCollision, dealsDamage, isDoor);
             }
         }
     }
 
+    /**
+     * getTileFlags | Determines the collision flags of a monochrome tile without loading its image.
+     * @param tileIndex The index of the tile in the monochrome tile set.
+     * @return Returns the Tile.SOLID, Tile.DAMAGE and Tile.DOOR flags of the tile.
+     */
+    public static byte getTileFlags(int tileIndex) {
+        byte flags = 0;
+        if (!tileMonochromeNonCollisions.contains(tileIndex)) flags |= Tile.SOLID;
+        if (tileMonochromeDamage.contains(tileIndex)) flags |= Tile.DAMAGE;
+        if (tileIndex == DOOR_TILE) flags |= Tile.DOOR;
+        return flags;
+    }
+
     /**
      * getMapTilesMonochrome | Fetches the data for the map tiles of monochrome design.
      * @return Returns the data containing monochrome tiles.
@@ -3,9 +3,16 @@ package utility;
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * The Atlas class contains the path to specific game resources used
@@ -78,27 +85,139 @@ public abstract class Atlas {
     /**The file path for Tarrget font used in the game.*/
     public static final String TARRGET_FONT = "fonts/TarrgetPlatinumItalic.ttf";
 
+    // DECODED SPRITE ATLAS CACHE SHARED BY THE WHOLE GAME.
+    /**The decoded sprite atlases, keyed by their file path.*/
+    private static final Map<String, Supplier<BufferedImage>> spriteCache = new ConcurrentHashMap<>();
+    /**The policy determining how long decoded sprite atlases are kept, set by the robotoscape.spriteCache property.*/
+    private static volatile SpriteCachePolicy spriteCachePolicy =
+            SpriteCachePolicy.fromName(System.getProperty("robotoscape.spriteCache", "strong"));
     /**
-     * getSpriteAtlas extracts game images from the local directory to the game.
+     * The animation frames cut from the sprite atlases, keyed by file path and frame size. Each frame is held on its
+     * own, so a frame stays cached as long as an entity draws it, even though every caller gets its own array.
+     */
+    private static final Map<String, List<Supplier<BufferedImage>>> animationCache = new ConcurrentHashMap<>();
+    /**The single sprite frames copied from the sprite atlases, keyed by file path and frame bounds.*/
+    private static final Map<String, Supplier<BufferedImage>> frameCache = new ConcurrentHashMap<>();
+    /**The fonts loaded from their true-type font files, keyed by file path.*/
+    private static final Map<String, Font> fontRegistry = new ConcurrentHashMap<>();
+    /**The fonts derived from the loaded fonts, keyed by file path, style and size.*/
+    private static final Map<String, Font> derivedFonts = new ConcurrentHashMap<>();
+    /**The number of true-type font files loaded.*/
+    private static final AtomicLong fontLoads = new AtomicLong();
+    /**The number of sprite atlas requests served from the cache.*/
+    private static final AtomicLong spriteCacheHits = new AtomicLong();
+    /**The number of sprite atlas requests that had to decode the image.*/
+    private static final AtomicLong spriteCacheMisses = new AtomicLong();
+    /**The total number of bytes of pixel data decoded into sprite atlases.*/
+    private static final AtomicLong decodedBytes = new AtomicLong();
+
+    /**
+     * getSpriteAtlas extracts game images from the local directory to the game. Each image is
+     * decoded once and shared by every caller, so the returned image must not be drawn on.
      * @param source A String containing the local file directory for the game image resource.
      * @return Returns a BufferedImage containing the extracted game image.
      */
     public static BufferedImage getSpriteAtlas(String source) {
-        try {
-            return ImageIO.read(Objects.requireNonNull(Atlas.class.getResourceAsStream("/" + source)));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        BufferedImage image = getCachedSpriteAtlas(source);
+        if (image != null) {
+            spriteCacheHits.incrementAndGet();
+            return image;
+        }
+        synchronized (spriteCache) {
+            // Another thread may have decoded the image while this one waited.
+            image = getCachedSpriteAtlas(source);
+            if (image != null) {
+                spriteCacheHits.incrementAndGet();
+                return image;
+            }
+            spriteCacheMisses.incrementAndGet();
+            try {
+                image = ImageIO.read(Objects.requireNonNull(Atlas.class.getResourceAsStream("/" + source)));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            decodedBytes.addAndGet((long) image.getRaster().getDataBuffer().getSize()
+                    * DataBuffer.getDataTypeSize(image.getRaster().getDataBuffer().getDataType()) / 8);
+            spriteCache.put(source, spriteCachePolicy.hold(image));
+            return image;
         }
     }
 
     /**
-     * getFont fetches the fonts from the local directory to the game.
+     * getCachedSpriteAtlas fetches a decoded sprite atlas from the cache.
+     * @param source A String containing the local file directory for the game image resource.
+     * @return Returns the cached BufferedImage, or null if it was never decoded or has been evicted.
+     */
+    private static BufferedImage getCachedSpriteAtlas(String source) {
+        Supplier<BufferedImage> cachedImage = spriteCache.get(source);
+        return cachedImage == null ? null : cachedImage.get();
+    }
+
+    /**
+     * setSpriteCachePolicy sets how long sprite atlases decoded from now on are kept in the cache.
+     * @param policy The SpriteCachePolicy of the cache.
+     */
+    public static void setSpriteCachePolicy(SpriteCachePolicy policy) {
+        spriteCachePolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * clearSpriteCache removes every decoded sprite atlas from the cache.
+     */
+    public static void clearSpriteCache() {
+        spriteCache.clear();
+        animationCache.clear();
+        frameCache.clear();
+    }
+
+    /**
+     * getSpriteCacheHits fetches the number of sprite atlas requests served from the cache.
+     * @return Returns the number of cache hits since the game started.
+     */
+    public static long getSpriteCacheHits() {return spriteCacheHits.get();}
+
+    /**
+     * getSpriteCacheMisses fetches the number of sprite atlas requests that had to decode the image.
+     * @return Returns the number of cache misses since the game started.
+     */
+    public static long getSpriteCacheMisses() {return spriteCacheMisses.get();}
+
+    /**
+     * getDecodedBytes fetches the total number of bytes of pixel data decoded into sprite atlases.
+     * @return Returns the number of decoded bytes since the game started.
+     */
+    public static long getDecodedBytes() {return decodedBytes.get();}
+
+    /**
+     * getFont fetches the fonts from the local directory to the game. Each font file is loaded once
+     * and the Font shared by every caller.
      * @param source A String containing the local file directory for the true-type font file.
      * @return Returns a Font extracted from the local font directory.
      */
     public static Font getFont(String source) {
-        try {
-            InputStream fontFile = Objects.requireNonNull(Atlas.class.getResourceAsStream("/" + source));
+        return fontRegistry.computeIfAbsent(source, Atlas::loadFont);
+    }
+
+    /**
+     * getFont fetches a font from the local directory derived to the given style and size. Each
+     * derived font is created once and shared by every caller.
+     * @param source    A String containing the local file directory for the true-type font file.
+     * @param style     The style of the font, such as Font.PLAIN.
+     * @param size      The size of the font.
+     * @return Returns the derived Font.
+     */
+    public static Font getFont(String source, int style, float size) {
+        return derivedFonts.computeIfAbsent(source + "@" + style + "," + size, key -> getFont(source).deriveFont(style, size));
+    }
+
+    /**
+     * loadFont loads a font from its true-type font file.
+     * @param source A String containing the local file directory for the true-type font file.
+     * @return Returns the loaded Font.
+     */
+    private static Font loadFont(String source) {
+        try (InputStream fontFile = Objects.requireNonNull(Atlas.class.getResourceAsStream("/" + source))) {
+            fontLoads.incrementAndGet();
             return Font.createFont(Font.TRUETYPE_FONT, fontFile);
         } catch (FontFormatException | IOException e) {
             throw new RuntimeException(e);
@@ -106,19 +225,71 @@ public abstract class Atlas {
     }
 
     /**
-     * extractAnimationImages extracts the individual animation frames for a given animation image.
+     * getFontLoads fetches the number of true-type font files loaded. It stops growing once every
+     * font in use has been loaded, so rendering should never change it.
+     * @return Returns the number of font loads since the game started.
+     */
+    public static long getFontLoads() {return fontLoads.get();}
+
+    /**
+     * getSpriteFrame extracts a single frame from a game image. The frame is copied once into a
+     * compatible image and shared by every caller.
+     * @param source    A String containing the local file directory for the game image resource.
+     * @param x         The x-coordinate of the frame in the game image.
+     * @param y         The y-coordinate of the frame in the game image.
+     * @param width     The width of the frame.
+     * @param height    The height of the frame.
+     * @return Returns a BufferedImage containing the frame.
+     */
+    public static BufferedImage getSpriteFrame(String source, int x, int y, int width, int height) {
+        String key = source + "@" + x + "," + y + "," + width + "x" + height;
+        Supplier<BufferedImage> cachedFrame = frameCache.get(key);
+        BufferedImage frame = cachedFrame == null ? null : cachedFrame.get();
+        if (frame == null) {
+            frame = ImageUtils.toCompatibleImage(getSpriteAtlas(source).getSubimage(x, y, width, height));
+            frameCache.put(key, spriteCachePolicy.hold(frame));
+        }
+        return frame;
+    }
+
+    /**
+     * extractAnimationImages extracts the individual animation frames for a given animation image. The frames
+     * are copied once into compatible images and shared by every caller, so entities of the same kind draw
+     * the same frame images.
      * @param source            A String containing the local file directory for the game image resource.
      * @param subImageWidth     The width of the sub-image to be extracted from the animation image.
      * @param subImageHeight    The height of the sub-image to be extracted from the animation image.
      * @return Returns a BufferedImage array containing the individual animation frames for a given animation image.
      */
     public static BufferedImage[] extractAnimationImages(String source, int subImageWidth, int subImageHeight) {
-        BufferedImage image = getSpriteAtlas(source);
-        int numOfImages = image.getWidth() / subImageWidth;
-        BufferedImage[] animationImages = new BufferedImage[numOfImages];
-        for (int i = 0; i < numOfImages; i++) {
-            animationImages[i] = image.getSubimage(i*subImageWidth, 0, subImageWidth, subImageHeight);
+        String key = source + "@" + subImageWidth + "x" + subImageHeight;
+        List<Supplier<BufferedImage>> cachedFrames = animationCache.get(key);
+        BufferedImage[] animationImages = cachedFrames == null ? null : getCachedAnimationImages(cachedFrames);
+        if (animationImages == null) {
+            BufferedImage image = getSpriteAtlas(source);
+            int numOfImages = image.getWidth() / subImageWidth;
+            animationImages = new BufferedImage[numOfImages];
+            List<Supplier<BufferedImage>> heldFrames = new ArrayList<>(numOfImages);
+            for (int i = 0; i < numOfImages; i++) {
+                animationImages[i] = ImageUtils.toCompatibleImage(image.getSubimage(i*subImageWidth, 0, subImageWidth, subImageHeight));
+                heldFrames.add(spriteCachePolicy.hold(animationImages[i]));
+            }
+            animationCache.put(key, heldFrames);
+        }
+        return animationImages;
+    }
+
+    /**
+     * getCachedAnimationImages gathers the cached frames of an animation into a new array for a caller.
+     * @param cachedFrames The held frames of the animation.
+     * @return Returns a new BufferedImage array of the shared frames, or null if any frame has been evicted.
+     */
+    private static BufferedImage[] getCachedAnimationImages(List<Supplier<BufferedImage>> cachedFrames) {
+        BufferedImage[] animationImages = new BufferedImage[cachedFrames.size()];
+        for (int i = 0; i < animationImages.length; i++) {
+            animationImages[i] = cachedFrames.get(i).get();
+            if (animationImages[i] == null) return null;
         }
         return animationImages;
     }
-}
\ No newline at end of file
+}
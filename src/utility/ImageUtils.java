@@ -0,0 +1,80 @@
+package utility;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * ImageUtils is a class containing utility methods for creating
+ * images that can be drawn quickly on the game screen.
+ */
+public abstract class ImageUtils {
+    /**The images created by ImageUtils that are still in use, kept to report how many Java2D accelerates.*/
+    private static final Set<BufferedImage> preparedImages = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * createCompatibleImage creates an empty image in the format of the screen, which Java2D can keep
+     * in video memory. Without a screen, an image in the premultiplied format Java2D blits fastest is created.
+     * @param width         The width of the image.
+     * @param height        The height of the image.
+     * @param transparency  The Transparency mode of the image.
+     * @return Returns an empty BufferedImage.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        BufferedImage image;
+        if (GraphicsEnvironment.isHeadless()) {
+            int imageType = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+            image = new BufferedImage(width, height, imageType);
+        } else {
+            image = getGraphicsConfiguration().createCompatibleImage(width, height, transparency);
+        }
+        preparedImages.add(image);
+        return image;
+    }
+
+    /**
+     * toCompatibleImage copies an image into a new image created by createCompatibleImage, keeping its transparency mode.
+     * Unlike decoded images and sub-image views of them, the copy can be cached in video memory by Java2D.
+     * @param source The image to copy.
+     * @return Returns the compatible copy of the image.
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage source) {
+        BufferedImage image = createCompatibleImage(source.getWidth(), source.getHeight(), source.getTransparency());
+        Graphics2D graphics = image.createGraphics();
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+        return image;
+    }
+
+    /**
+     * getPreparationReport describes how many of the images in use were created by ImageUtils,
+     * and how many of those Java2D currently keeps accelerated in video memory.
+     * @return Returns a one-line report of the prepared images.
+     */
+    public static String getPreparationReport() {
+        int managed;
+        int accelerated = 0;
+        synchronized (preparedImages) {
+            managed = preparedImages.size();
+            if (!GraphicsEnvironment.isHeadless()) {
+                GraphicsConfiguration configuration = getGraphicsConfiguration();
+                for (BufferedImage image : preparedImages) {
+                    if (image.getCapabilities(configuration).isAccelerated()) accelerated++;
+                }
+            }
+        }
+        return String.format("Images | Managed: %d | Accelerated: %d%s", managed, accelerated,
+                GraphicsEnvironment.isHeadless() ? " | Headless, using TYPE_INT_ARGB_PRE" : "");
+    }
+
+    /**
+     * getGraphicsConfiguration fetches the configuration of the screen the game is displayed on.
+     * @return Returns the default GraphicsConfiguration of the default screen.
+     */
+    private static GraphicsConfiguration getGraphicsConfiguration() {
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+}
@@ -1,12 +1,13 @@
 package utility;
 
 import entity.*;
+import level.CollisionGrid;
 import level.Level;
 import projectiles.Projectile;
 import tile.Tile;
-import tile.TileManager;
 
 import java.awt.*;
+import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 
 /**
@@ -15,125 +16,15 @@ import java.awt.geom.Rectangle2D;
  * the game.
  */
 public abstract class PlayUtils {
-    /**
-     * canEntityMove determines if an entity can move on the given cartesian coordinate in the game.
-     * @param xPos          The x-coordinate position in the current game screen.
-     * @param yPos          The y-coordinate position in the current game screen.
-     * @param entity        The entity of concern in the game.
-     * @param level         The current level of the game.
-     * @param tileManager   The TileManager containing data about the tiles of the game/level.
-     * @return              Returns a boolean value.
-     */
-    public static boolean canEntityMove(float xPos, float yPos, Entity entity, Level level, TileManager tileManager){
-        float entityScale = entity.getEntityScale();
-        Rectangle.Float entityHitBox = entity.getHitBox();
-
-        float entityLeftX = xPos + entity.getxHitBoxDelta();
-        float entityRightX = entityLeftX + entityHitBox.width*entityScale;
-        float entityTopY = yPos + entity.getyHitBoxDelta();
-        float entityBottomY = entityTopY + entityHitBox.height*entityScale;
-
-        int[][] levelData = level.getLevelData();
-        Tile[] mapTiles = tileManager.getMapTilesMonochrome();
-
-        boolean isTopLeftRestricted = isRestricted(entityLeftX, entityTopY, level, mapTiles, levelData);
-        boolean isTopRightRestricted = isRestricted(entityRightX, entityTopY, level, mapTiles, levelData);
-        boolean isBottomLeftRestricted = isRestricted(entityLeftX, entityBottomY, level, mapTiles, levelData);
-        boolean isBottomRightRestricted = isRestricted(entityRightX, entityBottomY, level, mapTiles, levelData);
-
-        return !isTopLeftRestricted && !isTopRightRestricted && !isBottomLeftRestricted && !isBottomRightRestricted;
-    }
-
     /**
      * isRestricted determines if the tile on a given cartesian coordinate restricts an entity's movement.
      * @param x             The x-coordinate position in the current game screen.
      * @param y             The y-coordinate position in the current game screen.
      * @param level         The current level of the game.
-     * @param mapTiles      An array of Tile containing the map tiles.
-     * @param levelData     A 2D array containing the data of the level's tiles value.
      * @return              Returns a boolean value.
      */
-    public static boolean isRestricted(float x, float y, Level level, Tile[] mapTiles, int[][] levelData) {
-        if (x < 0 || x >= level.getLevelWidthTiles() * 32 || y < 0 || y >= level.getLevelHeightTiles() * 32) {
-            return true;
-        }
-        int xIndex = (int) x / 32;
-        int yIndex = (int) y / 32;
-        return mapTiles[levelData[yIndex][xIndex]].getAllowCollision();
-    }
-
-    /**
-     * isSpike determines if the tile on a given cartesian coordinate is a spike.
-     * @param x             The x-coordinate position in the current game screen.
-     * @param y             The y-coordinate position in the current game screen.
-     * @param level         The current level of the game.
-     * @param mapTiles      An array of Tile containing the map tiles.
-     * @param levelData     A 2D array containing the data of the level's tiles value.
-     * @return              Returns a boolean value.
-     */
-    private static boolean isSpike(float x, float y, Level level, Tile[] mapTiles, int[][] levelData) {
-        if (x < 0 || x >= level.getLevelWidthTiles() * 32 || y < 0 || y >= level.getLevelHeightTiles() * 32) {
-            return true;
-        }
-        int xIndex = (int) x / 32;
-        int yIndex = (int) y / 32;
-        return mapTiles[levelData[yIndex][xIndex]].dealsDamage();
-    }
-
-    /**
-     * isDoor determines if the tile on a given cartesian coordinate is a door.
-     * @param x             The x-coordinate position in the current game screen.
-     * @param y             The y-coordinate position in the current game screen.
-     * @param level         The current level of the game.
-     * @param mapTiles      An array of Tile containing the map tiles.
-     * @param levelData     A 2D array containing the data of the level's tiles value.
-     * @return              Returns a boolean value.
-     */
-    private static boolean isDoor(float x, float y, Level level, Tile[] mapTiles, int[][] levelData) {
-        if (x < 0 || x >= level.getLevelWidthTiles() * 32 || y < 0 || y >= level.getLevelHeightTiles() * 32) {
-            return true;
-        }
-        int xIndex = (int) x / 32;
-        int yIndex = (int) y / 32;
-        return mapTiles[levelData[yIndex][xIndex]].isDoor();
-    }
-
-    /**
-     * getEntityXOffset determines the x-value offset from the left and right
-     * border of the game screen.
-     * @param xHitBox           The x-coordinate of an entity's hit box.
-     * @param isMovingLeft      The boolean value determining if the entity is moving left.
-     * @return                   Returns the x-value offset of the entity.
-     */
-    public static float getEntityXOffset(float xHitBox, boolean isMovingLeft) {
-        int currentPlayerTile = (int) xHitBox/ 32;
-        if (isMovingLeft) {
-            // check offset from left, make as xSpeed
-            int tileXPos = currentPlayerTile * 32;
-            return tileXPos - xHitBox + 2;
-        }
-        else {
-            // check offset from right, make as xSpeed
-            int tileXPos = (currentPlayerTile+1) * 32;
-            return tileXPos - xHitBox - 2;
-        }
-    }
-
-    /**
-     * getEntityYOffset determines the y-value offset from the up and down border of the game screen.
-     * @param yHitBox   The y-coordinate of an entity's hit box.
-     * @param airSpeed  The speed of an entity on air.
-     * @return          Returns the y-value offset of the entity.
-     */
-    public static float getEntityYOffset(float yHitBox, float airSpeed) {
-        int currentPlayerTile = (int) yHitBox/ 32;
-        if (airSpeed > 0) {
-            int tileYPos = currentPlayerTile * 32;
-            return yHitBox - tileYPos + 2;
-        } else {
-            int tileYPos = (currentPlayerTile+1) * 32;
-            return tileYPos - yHitBox - 2;
-        }
+    public static boolean isRestricted(float x, float y, Level level) {
+        return level.getCollisionGrid().isFlagged(x, y, Tile.SOLID);
     }
 
     /**
@@ -142,21 +33,21 @@ public abstract class PlayUtils {
      * @param yPos          The y-coordinate position of the entity in the current game screen.
      * @param entity        The entity of concern in the game.
      * @param level         The current level of the game.
-     * @param tileManager   The TileManager containing data about the tiles of the game/level.
      * @return              Returns a boolean value.
      */
-    public static boolean isEntityOnFloor(float xPos, float yPos, Entity entity, Level level, TileManager tileManager) {
+    public static boolean isEntityOnFloor(float xPos, float yPos, Entity entity, Level level) {
         float entityScale = entity.getEntityScale();
         Rectangle.Float entityHitBox = entity.getHitBox();
-        Tile[] mapTiles = tileManager.getMapTilesMonochrome();
-        int[][] levelData = level.getLevelData();
 
         float entityLeftX = xPos + entity.getxHitBoxDelta();
         float entityRightX = entityLeftX + entityHitBox.width*entityScale;
-        float entityBottomY = yPos + entity.getyHitBoxDelta() + entityHitBox.height*entityScale;
+        float entityBelowY = yPos + entity.getyHitBoxDelta() + entityHitBox.height*entityScale + 1;
 
-        boolean isBottomLeftRestricted = isRestricted(entityLeftX, entityBottomY, level, mapTiles, levelData);
-        boolean isBottomRightRestricted = isRestricted(entityRightX, entityBottomY, level, mapTiles, levelData);
+        CollisionGrid collisionGrid = level.getCollisionGrid();
+
+        // Tests a pixel below both bottom corners, as a hit box resting on a floor stops just above it.
+        boolean isBottomLeftRestricted = collisionGrid.isFlagged(entityLeftX, entityBelowY, Tile.SOLID);
+        boolean isBottomRightRestricted = collisionGrid.isFlagged(entityRightX, entityBelowY, Tile.SOLID);
 
         return (isBottomLeftRestricted && isBottomRightRestricted);
     }
@@ -168,46 +59,43 @@ public abstract class PlayUtils {
      * @param isMovingLeft  The boolean value determining if the entity is moving left.
      * @param entity        An entity instance.
      * @param level         The current level of the game.
-     * @param tileManager   The tile manager managing all the tiles used in the game.
      * @return              Returns a boolean value determining whether the entity is near/on an edge.
      */
-    public static boolean isEntityOnEdge(float xPos, float yPos, boolean isMovingLeft, Entity entity, Level level, TileManager tileManager) {
+    public static boolean isEntityOnEdge(float xPos, float yPos, boolean isMovingLeft, Entity entity, Level level) {
         float entityScale = entity.getEntityScale();
         Rectangle.Float entityHitBox = entity.getHitBox();
-        Tile[] mapTiles = tileManager.getMapTilesMonochrome();
-        int[][] levelData = level.getLevelData();
 
         float entityLeftX = xPos + entity.getxHitBoxDelta();
         float entityRightX = entityLeftX + entityHitBox.width*entityScale;
         float entityBottomY = yPos + entity.getyHitBoxDelta() + entityHitBox.height*entityScale;
 
         if (isMovingLeft) {
-            return !isRestricted(entityLeftX + 5, entityBottomY + 5, level, mapTiles, levelData);
+            return !isRestricted(entityLeftX + 5, entityBottomY + 5, level);
         } else {
-            return !isRestricted(entityRightX + 5, entityBottomY + 5, level, mapTiles, levelData);
+            return !isRestricted(entityRightX + 5, entityBottomY + 5, level);
         }
     }
 
     /**
      * getEntityCenterHitBox determines the center x,y-coordinate of the entity's HitBox.
      * @param entity    An entity instance.
-     * @return          Returns a Point.Float object containing the center x,y-coordinate of the entity's HitBox.
+     * @param center    The point set to the center of the entity's HitBox, reused by the caller across updates.
+     * @return          Returns the given point, containing the center x,y-coordinate of the entity's HitBox.
      */
-    public static Point.Float getEntityCenterHitBox(Entity entity) {
+    public static Point2D.Float getEntityCenterHitBox(Entity entity, Point2D.Float center) {
         Rectangle2D.Float entityHitBox = entity.getHitBox();
-        float centerX = (entityHitBox.x+(entityHitBox.width*entity.getEntityScale())/2);
-        float centerY = (entityHitBox.y+(entityHitBox.height*entity.getEntityScale())/2);
-        return new Point.Float(centerX, centerY);
+        center.x = (entityHitBox.x+(entityHitBox.width*entity.getEntityScale())/2);
+        center.y = (entityHitBox.y+(entityHitBox.height*entity.getEntityScale())/2);
+        return center;
     }
 
     /**
      * isProjectileOnCollision checks if a projectile is on a collision tile on the current level of the game.
      * @param projectile    A projectile object.
      * @param level         The current level of the game.
-     * @param tileManager   The tile manager managing all the tiles used in the game.
      * @return              Returns a boolean value determining whether the projectile is on a collision tile or not.
      */
-    public static boolean isProjectileOnCollision(Projectile projectile, Level level, TileManager tileManager) {
+    public static boolean isProjectileOnCollision(Projectile projectile, Level level) {
         Rectangle2D.Float projectileHitBox = projectile.getHitBox();
 
         float projectileLeftX = projectileHitBox.x;
@@ -215,15 +103,7 @@ public abstract class PlayUtils {
         float projectileTopY = projectileHitBox.y;
         float projectileBottomY = projectileTopY + projectileHitBox.height;
 
-        int[][] levelData = level.getLevelData();
-        Tile[] mapTiles = tileManager.getMapTilesMonochrome();
-
-        boolean isTopLeftRestricted = isRestricted(projectileLeftX, projectileTopY, level, mapTiles, levelData);
-        boolean isTopRightRestricted = isRestricted(projectileRightX, projectileTopY, level, mapTiles, levelData);
-        boolean isBottomLeftRestricted = isRestricted(projectileLeftX, projectileBottomY, level, mapTiles, levelData);
-        boolean isBottomRightRestricted = isRestricted(projectileRightX, projectileBottomY, level, mapTiles, levelData);
-
-        return isTopLeftRestricted && isTopRightRestricted && isBottomLeftRestricted && isBottomRightRestricted;
+        return level.getCollisionGrid().areAllCornersFlagged(projectileLeftX, projectileTopY, projectileRightX, projectileBottomY, Tile.SOLID);
     }
 
     /**
@@ -232,10 +112,9 @@ public abstract class PlayUtils {
      * @param yPos          The y-coordinate position in the current game screen.
      * @param entity        The entity of concern in the game.
      * @param level         The current level of the game.
-     * @param tileManager   The TileManager containing data about the tiles of the game/level.
      * @return              Returns a boolean value.
      */
-    public static boolean isEntityOnDamageTile(float xPos, float yPos, Entity entity, Level level, TileManager tileManager) {
+    public static boolean isEntityOnDamageTile(float xPos, float yPos, Entity entity, Level level) {
         float entityScale = entity.getEntityScale();
         Rectangle.Float entityHitBox = entity.getHitBox();
 
@@ -244,15 +123,7 @@ public abstract class PlayUtils {
         float entityTopY = yPos + entity.getyHitBoxDelta();
         float entityBottomY = entityTopY + entityHitBox.height*entityScale;
 
-        int[][] levelData = level.getLevelData();
-        Tile[] mapTiles = tileManager.getMapTilesMonochrome();
-
-        boolean isTopLeftSpike = isSpike(entityLeftX, entityTopY, level, mapTiles, levelData);
-        boolean isTopRightSpike = isSpike(entityRightX, entityTopY, level, mapTiles, levelData);
-        boolean isBottomLeftSpike= isSpike(entityLeftX, entityBottomY, level, mapTiles, levelData);
-        boolean isBottomRightSpike = isSpike(entityRightX, entityBottomY, level, mapTiles, levelData);
-
-        return isTopLeftSpike || isTopRightSpike || isBottomLeftSpike || isBottomRightSpike;
+        return level.getCollisionGrid().isAnyCornerFlagged(entityLeftX, entityTopY, entityRightX, entityBottomY, Tile.DAMAGE);
     }
 
     /**
@@ -261,10 +132,9 @@ public abstract class PlayUtils {
      * @param yPos          The y-coordinate position in the current game screen.
      * @param player        The player of the game.
      * @param level         The current level of the game.
-     * @param tileManager   The TileManager containing data about the tiles of the game/level.
      * @return              Returns a boolean value.
      */
-    public static boolean isPlayerOnDoor(float xPos, float yPos, Player player, Level level, TileManager tileManager) {
+    public static boolean isPlayerOnDoor(float xPos, float yPos, Player player, Level level) {
         float playerScale = player.getEntityScale();
         Rectangle.Float entityHitBox = player.getHitBox();
 
@@ -273,14 +143,6 @@ public abstract class PlayUtils {
         float playerTopY = yPos + player.getyHitBoxDelta();
         float playerBottomY = playerTopY + entityHitBox.height*playerScale;
 
-        int[][] levelData = level.getLevelData();
-        Tile[] mapTiles = tileManager.getMapTilesMonochrome();
-
-        boolean isTopLeftDoor = isDoor(playerLeftX, playerTopY, level, mapTiles, levelData);
-        boolean isTopRightDoor = isDoor(playerRightX, playerTopY, level, mapTiles, levelData);
-        boolean isBottomLeftDoor = isDoor(playerLeftX, playerBottomY, level, mapTiles, levelData);
-        boolean isBottomRightDoor = isDoor(playerRightX, playerBottomY, level, mapTiles, levelData);
-
-        return isTopLeftDoor || isTopRightDoor || isBottomLeftDoor || isBottomRightDoor;
+        return level.getCollisionGrid().isAnyCornerFlagged(playerLeftX, playerTopY, playerRightX, playerBottomY, Tile.DOOR);
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package utility;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * The SpriteCachePolicy enum determines how long the decoded sprite atlases
+ * cached by Atlas are kept in memory.
+ */
+public enum SpriteCachePolicy {
+    /**Keeps every decoded sprite atlas for the lifetime of the game.*/
+    STRONG {
+        @Override
+        <T> Supplier<T> hold(T value) {return () -> value;}
+    },
+    /**Lets the garbage collector evict decoded sprite atlases when memory runs low.*/
+    SOFT {
+        @Override
+        <T> Supplier<T> hold(T value) {return new SoftReference<>(value)::get;}
+    },
+    /**Lets the garbage collector evict decoded sprite atlases once nothing else uses them.*/
+    WEAK {
+        @Override
+        <T> Supplier<T> hold(T value) {return new WeakReference<>(value)::get;}
+    };
+
+    /**
+     * fromName finds the sprite cache policy of the given name, ignoring case. An unknown name falls back to STRONG,
+     * so a mistyped robotoscape.spriteCache property does not stop the game from starting.
+     * @param name The name of the sprite cache policy, strong, soft or weak.
+     * @return Returns the sprite cache policy of the name, or STRONG if there is none.
+     */
+    public static SpriteCachePolicy fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown sprite cache policy " + name + ", keeping every sprite.");
+            return STRONG;
+        }
+    }
+
+    /**
+     * hold wraps a decoded sprite atlas, or a frame copied from one, to be stored in the cache.
+     * @param value The cached sprite atlas or frame.
+     * @return Returns a Supplier of the value, or of null once the value has been evicted.
+     */
+    abstract <T> Supplier<T> hold(T value);
+}
@@ -24,40 +24,4 @@ public abstract class TextUtils {
         int bottomY = topY + textBoundaryBox.height;
         return (mouseX > topX && mouseY > topY) && (mouseX < bottomX && mouseY < bottomY);
     }
-
-    /**
-     * getTextCenterXPosition determines the x-coordinate position of a text
-     * as it is placed in the center of the game screen.
-     * @param text The text to be displayed.
-     * @param font The font of the text.
-     * @param graphics The graphics object that draws images on the game screen.
-     * @param screenWidth The total width of the game screen.
-     * @return Returns the x-coordinate position for the text to be displayed at the center of the game screen.
-     */
-    public static int getTextCenterXPosition(String text, Font font, Graphics graphics, int screenWidth){
-        int textWidth = (int) graphics.getFontMetrics(font).getStringBounds(text, graphics).getWidth();
-        return (screenWidth - textWidth)/2;
-    }
-
-    /**
-     * getTextWidth determines the width of the text according to its font family.
-     * @param text A string containing the text.
-     * @param font The font of the text.
-     * @param graphics The graphics object that draws images on the game screen.
-     * @return Returns the width of the text.
-     */
-    public static int getTextWidth(String text, Font font, Graphics graphics) {
-        return (int) graphics.getFontMetrics(font).getStringBounds(text, graphics).getWidth();
-    }
-
-    /**
-     * getTextHeight determines the height of the text according to its font family.
-     * @param text A string containing the text.
-     * @param font The font of the text.
-     * @param graphics The graphics object that draws images on the game screen.
-     * @return Returns the height of the text.
-     */
-    public static int getTextHeight(String text, Font font, Graphics graphics) {
-        return (int) graphics.getFontMetrics(font).getStringBounds(text, graphics).getHeight();
-    }
-}
\ No newline at end of file
+}